@@ -0,0 +1,63 @@
+package data;
+
+/**
+ * Resolves the DemoBlaze site and API locations used by page objects
+ * Defaults to the public site; -Ddemoblaze.target=standin points everything at the embedded stand-in server
+ */
+public final class Environment {
+
+    public static final String TARGET_PROPERTY = "demoblaze.target";
+    public static final String TARGET_LIVE = "live";
+    public static final String TARGET_STANDIN = "standin";
+
+    private static volatile String siteUrl = TestData.SITE_URL;
+    private static volatile String apiUrl = TestData.API_URL;
+
+    private Environment() {
+    }
+
+    public static String target() {
+        return System.getProperty(TARGET_PROPERTY, TARGET_LIVE);
+    }
+
+    public static boolean isStandInRequested() {
+        return TARGET_STANDIN.equalsIgnoreCase(target());
+    }
+
+    /**
+     * Redirects all page objects and API clients to another DemoBlaze instance.
+     * Both URLs are normalised to end with a slash.
+     */
+    public static void pointAt(String site, String api) {
+        siteUrl = withTrailingSlash(site);
+        apiUrl = withTrailingSlash(api);
+    }
+
+    public static String siteUrl() {
+        return siteUrl;
+    }
+
+    public static String apiUrl() {
+        return apiUrl;
+    }
+
+    public static String homeUrl() {
+        return siteUrl + "index.html";
+    }
+
+    public static String productUrl(int productId) {
+        return siteUrl + "prod.html?idp_=" + productId;
+    }
+
+    public static String cartUrl() {
+        return siteUrl + "cart.html";
+    }
+
+    public static String apiEndpoint(String path) {
+        return apiUrl + (path.startsWith("/") ? path.substring(1) : path);
+    }
+
+    private static String withTrailingSlash(String url) {
+        return url.endsWith("/") ? url : url + "/";
+    }
+}
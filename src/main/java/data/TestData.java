@@ -7,6 +7,8 @@ package data;
 public class TestData {
 
     public static final String BASE_URL = "https://www.demoblaze.com/index.html";
+    public static final String SITE_URL = "https://www.demoblaze.com/";
+    public static final String API_URL = "https://api.demoblaze.com/";
 
     public static class Products {
         public static final String SAMSUNG_GALAXY_S6 = "Samsung galaxy s6";
@@ -72,20 +74,17 @@ public class TestData {
 
     public static class Timeouts {
         public static final int DEFAULT_WAIT_MS = 1000;
-        public static final int ALERT_WAIT_MS = 1000;
+        public static final int ALERT_TIMEOUT_MS = 5000;
+        public static final int OPTIONAL_ALERT_TIMEOUT_MS = 500;
         public static final int MODAL_WAIT_MS = 1000;
     }
 
     public static class TestValues {
-        public static final String SAMPLE_PRICE = "360";
+        public static final int SAMPLE_PRICE = 360;
     }
 
     public static class Selectors {
 
-        public static class Cart {
-            public static final String PRODUCT_PRICE_XPATH = "//td[text()='%s']";
-        }
-
         public static class Buttons {
             public static final String PURCHASE_BUTTON_XPATH = "//button[text()='Purchase']";
             public static final String PLACE_ORDER_BUTTON_XPATH = "//button[text()='Place Order']";
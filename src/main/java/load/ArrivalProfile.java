@@ -0,0 +1,84 @@
+package load;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Open-model load settings: how many sessions start per second, independent of how fast the server answers
+ * A constant rate is one stage; -Darrival.steps describes a stepped profile as rate x seconds stages.
+ * With Poisson arrivals the gaps are exponentially distributed around the same mean rate, so bursts occur
+ * the way they do with independent customers.
+ *
+ * Configuration (system properties):
+ * -Darrival.rate=20                   sessions started per second
+ * -Darrival.duration=60               seconds; defaults to the load profile's duration
+ * -Darrival.steps=10x30,20x30,40x60   stepped rate (sessions/s x seconds); replaces rate and duration
+ * -Darrival.poisson=false             exponentially distributed gaps instead of evenly spaced ones
+ * -Darrival.maxInFlight=10000         sessions allowed in flight before the scheduler waits for one to finish
+ */
+public record ArrivalProfile(List<Stage> stages, boolean poisson, int maxInFlight) {
+
+    /**
+     * A stretch of the run at one arrival rate.
+     */
+    public record Stage(double ratePerSecond, Duration duration) {
+
+        public Stage {
+            if (ratePerSecond < 0 || duration.isNegative()) {
+                throw new IllegalArgumentException("Invalid arrival stage " + ratePerSecond + "/s for " + duration);
+            }
+        }
+    }
+
+    public ArrivalProfile {
+        stages = List.copyOf(stages);
+        if (stages.isEmpty()) {
+            throw new IllegalArgumentException("An arrival profile needs at least one stage");
+        }
+    }
+
+    /**
+     * Profile from the -Darrival.* properties; {@code defaultDuration} applies when neither steps nor duration are set.
+     */
+    public static ArrivalProfile load(Duration defaultDuration) {
+        String steps = System.getProperty("arrival.steps", "").trim();
+        List<Stage> stages = steps.isEmpty()
+            ? List.of(new Stage(Double.parseDouble(System.getProperty("arrival.rate", "20").trim()),
+                Duration.ofSeconds(Long.parseLong(System.getProperty("arrival.duration",
+                    String.valueOf(defaultDuration.toSeconds())).trim()))))
+            : parseSteps(steps);
+        return new ArrivalProfile(stages,
+            Boolean.parseBoolean(System.getProperty("arrival.poisson", "false").trim()),
+            Integer.parseInt(System.getProperty("arrival.maxInFlight", "10000").trim()));
+    }
+
+    /**
+     * Parses "10x30,20x30" into stages of 10/s for 30 s and 20/s for 30 s.
+     */
+    public static List<Stage> parseSteps(String steps) {
+        List<Stage> stages = new ArrayList<>();
+        for (String step : steps.split(",")) {
+            String[] parts = step.trim().toLowerCase(Locale.ROOT).split("x");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Arrival step '" + step + "' is not <rate>x<seconds>");
+            }
+            stages.add(new Stage(Double.parseDouble(parts[0].trim()), Duration.ofSeconds(Long.parseLong(parts[1].trim()))));
+        }
+        return stages;
+    }
+
+    public Duration duration() {
+        return stages.stream().map(Stage::duration).reduce(Duration.ZERO, Duration::plus);
+    }
+
+    @Override
+    public String toString() {
+        String rates = stages.size() == 1
+            ? stages.get(0).ratePerSecond() + "/s for " + stages.get(0).duration().toSeconds() + " s"
+            : String.join(", ", stages.stream()
+                .map(stage -> stage.ratePerSecond() + "/s for " + stage.duration().toSeconds() + " s").toList());
+        return rates + (poisson ? ", Poisson arrivals" : ", even arrivals");
+    }
+}
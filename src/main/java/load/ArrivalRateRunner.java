@@ -0,0 +1,171 @@
+package load;
+
+import data.Environment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import standin.DemoBlazeStandInServer;
+
+import java.net.http.HttpClient;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Open-model HTTP load generator: sessions start on a fixed schedule, however slowly the server answers
+ * A closed Thread Group sends less when responses slow down, so its percentiles leave out the customers who
+ * would have arrived in the meantime. Here every session has an intended start time taken from the
+ * {@link ArrivalProfile}, runs on its own virtual thread, and latency is measured from that intended time.
+ * Service time (send to response) is reported next to it; a large gap between the two means queueing.
+ *
+ * Results go to the log and to target/metrics/arrival-summary.json; thresholds are those of the
+ * {@link LoadProfile} and are checked against the intended-time latency. The process exits with status 1
+ * when one fails.
+ *
+ * Configuration (system properties): see {@link ArrivalProfile} and {@link LoadProfile}, plus
+ * -Darrival.journey=api               api ({@link DemoBlazeJourney#api()}) or shopping (the recorded journey)
+ *
+ * Usage:
+ * mvn compile exec:java -Dexec.mainClass=load.ArrivalRateRunner -Darrival.rate=50
+ * mvn compile exec:java -Dexec.mainClass=load.ArrivalRateRunner -Darrival.steps=10x60,20x60,40x60 -Darrival.poisson=true
+ */
+public final class ArrivalRateRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArrivalRateRunner.class);
+
+    private ArrivalRateRunner() {
+    }
+
+    /**
+     * Latency from the intended send time, the plain service time and how far the scheduler fell behind.
+     */
+    public record Result(LoadStats latency, LoadStats serviceTime, long sessions, long maxSchedulerLagMicros) {
+    }
+
+    public static void main(String[] args) {
+        DemoBlazeStandInServer.startIfRequested();
+        LoadProfile profile = LoadProfile.load();
+        ArrivalProfile arrivals = ArrivalProfile.load(profile.duration());
+        Scenario scenario = "shopping".equalsIgnoreCase(System.getProperty("arrival.journey", "api").trim())
+            ? DemoBlazeJourney.shopping()
+            : DemoBlazeJourney.api();
+
+        Result result = run(scenario, arrivals, profile, Map.of());
+        List<String> violations = report(scenario, arrivals, profile, result);
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Starts one session of the scenario per scheduled arrival and waits for all of them to finish.
+     */
+    public static Result run(Scenario scenario, ArrivalProfile arrivals, LoadProfile profile,
+                             Map<String, String> planVariables) {
+        return run(scenario, arrivals, profile, planVariables, new LoadStats());
+    }
+
+    /**
+     * As {@link #run(Scenario, ArrivalProfile, LoadProfile, Map)}, recording latencies into {@code latency}
+     * so callers can watch the run's progress.
+     */
+    static Result run(Scenario scenario, ArrivalProfile arrivals, LoadProfile profile,
+                      Map<String, String> planVariables, LoadStats latency) {
+        HttpClient client = LoadRunner.newClient(profile);
+        LoadStats serviceTime = new LoadStats();
+        Semaphore inFlight = new Semaphore(arrivals.maxInFlight());
+        logger.info("Running '{}' ({} requests per session) against {}: {}", scenario.name(),
+            scenario.requests().size(), Environment.siteUrl(), arrivals);
+
+        long sessions = 0;
+        long maxLag = 0;
+        latency.start();
+        serviceTime.start();
+        long started = System.nanoTime();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            long stageStart = 0;
+            for (ArrivalProfile.Stage stage : arrivals.stages()) {
+                long stageEnd = stageStart + stage.duration().toNanos();
+                long offset = stageStart;
+                while (stage.ratePerSecond() > 0 && offset < stageEnd) {
+                    long intended = started + offset;
+                    if (!LoadRunner.sleepUntil(intended) || !acquire(inFlight)) {
+                        break;
+                    }
+                    maxLag = Math.max(maxLag, System.nanoTime() - intended);
+                    sessions++;
+                    users.submit(() -> {
+                        try {
+                            new VirtualUser(client, latency, serviceTime, profile, planVariables).runSession(scenario, intended);
+                        } catch (RuntimeException e) {
+                            logger.error("Session aborted", e);
+                            latency.recordAborted();
+                            serviceTime.recordAborted();
+                        } finally {
+                            inFlight.release();
+                        }
+                    });
+                    offset += gapNanos(stage.ratePerSecond(), arrivals.poisson());
+                }
+                stageStart = stageEnd;
+            }
+            // A final zero-rate stage still lasts its duration
+            LoadRunner.sleepUntil(started + stageStart);
+        }
+        latency.finish();
+        serviceTime.finish();
+        if (TimeUnit.NANOSECONDS.toMillis(maxLag) > 100) {
+            logger.warn("The scheduler fell up to {} ms behind; those delays are included in the latencies",
+                TimeUnit.NANOSECONDS.toMillis(maxLag));
+        }
+        return new Result(latency, serviceTime, sessions, TimeUnit.NANOSECONDS.toMicros(maxLag));
+    }
+
+    /**
+     * Logs both tables, writes target/metrics/arrival-summary.json and returns the threshold violations.
+     */
+    public static List<String> report(Scenario scenario, ArrivalProfile arrivals, LoadProfile profile, Result result) {
+        logger.info("Arrival run '{}' finished: {} sessions, {} samples in {} s\nLatency from intended send time:\n{}"
+                + "Service time:\n{}", scenario.name(), result.sessions(), result.latency().samples(),
+            Math.round(result.latency().elapsedSeconds()), result.latency().table(), result.serviceTime().table());
+        List<String> violations = result.latency().thresholdViolations(profile);
+        violations.forEach(violation -> logger.error("Threshold failed: {}", violation));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", scenario.name());
+        summary.put("target", Environment.siteUrl());
+        summary.put("arrivals", arrivals.toString());
+        summary.put("sessions", result.sessions());
+        summary.put("achievedSessionsPerSecond", Math.round(result.sessions() / result.latency().elapsedSeconds() * 10) / 10.0);
+        summary.put("maxSchedulerLagMs", result.maxSchedulerLagMicros() / 1000.0);
+        summary.put("elapsedSeconds", Math.round(result.latency().elapsedSeconds() * 10) / 10.0);
+        summary.put("thresholdViolations", violations);
+        summary.put("latency", result.latency().summary());
+        summary.put("serviceTime", result.serviceTime().summary());
+        LoadRunner.writeSummary("arrival-summary.json", summary);
+        logger.info("p99 latency {} ms vs p99 service time {} ms",
+            Math.round(result.latency().percentileMillis(99) * 10) / 10.0,
+            Math.round(result.serviceTime().percentileMillis(99) * 10) / 10.0);
+        return violations;
+    }
+
+    private static long gapNanos(double ratePerSecond, boolean poisson) {
+        double meanNanos = 1_000_000_000.0 / ratePerSecond;
+        if (!poisson) {
+            return Math.max(1, Math.round(meanNanos));
+        }
+        return Math.max(1, Math.round(-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * meanNanos));
+    }
+
+    private static boolean acquire(Semaphore inFlight) {
+        try {
+            inFlight.acquire();
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package load;
+
+import data.Environment;
+
+import java.util.Map;
+
+/**
+ * The customer journey recorded in test-plans/demoblaze-performance-test.jmx, ported request for request
+ * Home, cart, three product pages and three add-to-cart calls, with the plan's recorded think times and
+ * CORS preflights. Disabled samplers (config.json, the HLS playlist) are left out as in the plan.
+ * URLs follow {@link Environment}, so the journey also runs against the stand-in; every iteration uses its
+ * own cart cookie instead of the recorded one.
+ */
+public final class DemoBlazeJourney {
+
+    private static final String USER_AGENT = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 "
+        + "(KHTML, like Gecko) Chrome/140.0.0.0 Safari/537.36 Edg/140.0.0.0";
+
+    private static final Map<String, String> PREFLIGHT = Map.of(
+        "Access-Control-Request-Method", "POST",
+        "Access-Control-Request-Headers", "content-type");
+
+    private DemoBlazeJourney() {
+    }
+
+    public static Scenario shopping() {
+        Scenario.Builder journey = Scenario.named("DemoBlaze shopping journey")
+            .headers(Map.of("User-Agent", USER_AGENT));
+        home(journey, 0, 0);
+        home(journey, 5894.5, 11789);
+        journey.pause(4915, 9830)
+            .get("GET cart.html", Environment.cartUrl())
+            .request("OPTIONS /viewcart", "OPTIONS", Environment.apiEndpoint("viewcart"), PREFLIGHT, null)
+            .post("POST /viewcart", Environment.apiEndpoint("viewcart"), "{\"cookie\":\"${cookie}\",\"flag\":false}");
+        home(journey, 5807.5, 11615);
+        product(journey, 1, 2760, 5520);
+        home(journey, 3469.5, 6939);
+        product(journey, 2, 2006.5, 4013);
+        for (int i = 0; i < 3; i++) {
+            journey.request("OPTIONS /addtocart", "OPTIONS", Environment.apiEndpoint("addtocart"), PREFLIGHT, null)
+                .post("POST /addtocart", Environment.apiEndpoint("addtocart"),
+                    "{\"id\":\"${__UUID()}\",\"cookie\":\"${cookie}\",\"prod_id\":2,\"flag\":false}");
+        }
+        home(journey, 11315.5, 22631);
+        product(journey, 3, 1851.5, 3703);
+        home(journey, 2852.5, 5705);
+        return journey.build();
+    }
+
+    /**
+     * The storefront's API calls for one customer without pages or think time: catalogue, product, add to cart
+     * and cart. Meant for open-model runs, where each arrival is one such session.
+     */
+    public static Scenario api() {
+        return Scenario.named("DemoBlaze API journey")
+            .headers(Map.of("User-Agent", USER_AGENT))
+            .get("GET /entries", Environment.apiEndpoint("entries"))
+            .post("POST /view", Environment.apiEndpoint("view"), "{\"id\":\"1\"}")
+            .post("POST /addtocart", Environment.apiEndpoint("addtocart"),
+                "{\"id\":\"${__UUID()}\",\"cookie\":\"${cookie}\",\"prod_id\":1,\"flag\":false}")
+            .post("POST /viewcart", Environment.apiEndpoint("viewcart"), "{\"cookie\":\"${cookie}\",\"flag\":false}")
+            .build();
+    }
+
+    private static void home(Scenario.Builder journey, double delayMs, double rangeMs) {
+        journey.pause(delayMs, rangeMs)
+            .get("GET index.html", Environment.homeUrl())
+            .get("GET /entries", Environment.apiEndpoint("entries"));
+    }
+
+    private static void product(Scenario.Builder journey, int productId, double delayMs, double rangeMs) {
+        journey.pause(delayMs, rangeMs)
+            .get("GET prod.html", Environment.productUrl(productId))
+            .request("OPTIONS /view", "OPTIONS", Environment.apiEndpoint("view"), PREFLIGHT, null)
+            .post("POST /view", Environment.apiEndpoint("view"), "{\"id\":\"" + productId + "\"}");
+    }
+}
@@ -0,0 +1,276 @@
+package load;
+
+import com.codeborne.selenide.Selenide;
+import data.Environment;
+import data.TestData;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import pages.CartPage;
+import pages.HomePage;
+import pages.OrderPlacementPage;
+import pages.ProductDetailsPage;
+import standin.DemoBlazeStandInServer;
+import support.BrowserSettings;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static com.codeborne.selenide.Condition.visible;
+import static com.codeborne.selenide.Selenide.$;
+import static com.codeborne.selenide.Selenide.closeWebDriver;
+
+/**
+ * Real browser journeys measured while API load runs in the background
+ * Protocol-level load leaves out rendering and script cost; browsers alone cannot generate enough load.
+ * Here N browsers loop the purchase journey through the page objects while {@link ArrivalRateRunner} drives
+ * the API journey at the {@link ArrivalProfile} rates. Every browser step is attributed to the arrival stage
+ * it started in, so a stepped profile shows step latency against measured background throughput.
+ * Browsers are started and warmed up before the first stage begins; a browser restarted after a failed journey
+ * is warmed up again outside the measurements, and restarts are counted per stage instead.
+ *
+ * Page timings are off by default here (-Dpage.timings=true turns them on) so their capture is not counted
+ * in the step latencies.
+ *
+ * Configuration (system properties): see {@link ArrivalProfile}, {@link LoadProfile} and {@link BrowserSettings}, plus
+ * -Dhybrid.browsers=2                 concurrent browser journeys
+ * -Dhybrid.product=Samsung galaxy s6  product each journey buys
+ *
+ * Usage:
+ * mvn compile exec:java -Dexec.mainClass=load.HybridRunner -Darrival.steps=0x60,20x60,50x60 -Dselenide.headless=true
+ */
+public final class HybridRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(HybridRunner.class);
+
+    private HybridRunner() {
+    }
+
+    /**
+     * Browser step latencies of one arrival stage and the background throughput measured during it.
+     */
+    public record StageResult(ArrivalProfile.Stage stage, double backgroundRequestsPerSecond, LoadStats steps,
+                              long browserRestarts) {
+    }
+
+    public static void main(String[] args) {
+        if (System.getProperty("page.timings") == null) {
+            System.setProperty("page.timings", "false");
+        }
+        BrowserSettings.apply();
+        DemoBlazeStandInServer.startIfRequested();
+        LoadProfile profile = LoadProfile.load();
+        ArrivalProfile arrivals = ArrivalProfile.load(profile.duration());
+        int browsers = Integer.parseInt(System.getProperty("hybrid.browsers", "2").trim());
+        String product = System.getProperty("hybrid.product", TestData.Products.SAMSUNG_GALAXY_S6);
+
+        List<StageResult> stages = run(DemoBlazeJourney.api(), arrivals, profile, browsers, product);
+        report(arrivals, browsers, stages);
+        System.exit(0);
+    }
+
+    /**
+     * Runs the background load and the browser journeys side by side until the last stage ends.
+     */
+    public static List<StageResult> run(Scenario background, ArrivalProfile arrivals, LoadProfile profile,
+                                        int browsers, String product) {
+        List<LoadStats> stepStats = new ArrayList<>();
+        arrivals.stages().forEach(stage -> stepStats.add(new LoadStats()));
+        LoadStats backgroundStats = new LoadStats();
+        StageClock clock = new StageClock(browsers, arrivals.stages().size());
+        logger.info("Running {} browser journeys for '{}' under '{}' against {}: {}", browsers, product,
+            background.name(), Environment.siteUrl(), arrivals);
+
+        List<Double> throughput = new ArrayList<>();
+        ExecutorService journeys = Executors.newFixedThreadPool(Math.max(1, browsers));
+        CompletableFuture<ArrivalRateRunner.Result> load = CompletableFuture.completedFuture(null);
+        try {
+            for (int i = 0; i < browsers; i++) {
+                journeys.submit(() -> browse(product, clock, stepStats));
+            }
+            // Browser start-up is not part of any stage
+            await(clock.ready);
+            logger.info("Browsers warmed up, starting background load");
+            load = CompletableFuture.supplyAsync(
+                () -> ArrivalRateRunner.run(background, arrivals, profile, Map.of(), backgroundStats));
+            clock.started.countDown();
+            long stageStart = System.nanoTime();
+            for (int i = 0; i < arrivals.stages().size(); i++) {
+                clock.stage = i;
+                stepStats.get(i).start();
+                long samplesBefore = backgroundStats.samples();
+                long stageEnd = stageStart + arrivals.stages().get(i).duration().toNanos();
+                if (!LoadRunner.sleepUntil(stageEnd)) {
+                    break;
+                }
+                stepStats.get(i).finish();
+                throughput.add((backgroundStats.samples() - samplesBefore)
+                    / Math.max(1e-9, (System.nanoTime() - stageStart) / 1_000_000_000.0));
+                stageStart = stageEnd;
+            }
+        } finally {
+            clock.finished = true;
+            clock.started.countDown();
+            journeys.shutdown();
+            awaitTermination(journeys);
+        }
+        load.join();
+
+        List<StageResult> results = new ArrayList<>();
+        for (int i = 0; i < throughput.size(); i++) {
+            results.add(new StageResult(arrivals.stages().get(i), throughput.get(i), stepStats.get(i),
+                clock.restarts.get(i)));
+        }
+        return results;
+    }
+
+    /**
+     * Logs a step table per stage and writes target/metrics/hybrid-summary.json.
+     */
+    public static void report(ArrivalProfile arrivals, int browsers, List<StageResult> stages) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        StringBuilder tables = new StringBuilder();
+        for (StageResult result : stages) {
+            tables.append(String.format(Locale.ROOT, "Stage %.1f sessions/s target, %.1f background req/s measured, %d browser restarts:%n%s",
+                result.stage().ratePerSecond(), result.backgroundRequestsPerSecond(), result.browserRestarts(),
+                result.steps().table()));
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("targetSessionsPerSecond", result.stage().ratePerSecond());
+            row.put("backgroundRequestsPerSecond", Math.round(result.backgroundRequestsPerSecond() * 10) / 10.0);
+            row.put("seconds", result.stage().duration().toSeconds());
+            row.put("browserRestarts", result.browserRestarts());
+            row.put("steps", result.steps().summary());
+            rows.add(row);
+        }
+        logger.info("Hybrid run finished with {} browsers\n{}", browsers, tables);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("target", Environment.siteUrl());
+        summary.put("browsers", browsers);
+        summary.put("arrivals", arrivals.toString());
+        summary.put("stages", rows);
+        LoadRunner.writeSummary("hybrid-summary.json", summary);
+    }
+
+    // Written by the stage loop, read by the browser threads
+    private static final class StageClock {
+        final CountDownLatch ready;
+        final CountDownLatch started = new CountDownLatch(1);
+        final AtomicLongArray restarts;
+        volatile int stage;
+        volatile boolean finished;
+
+        StageClock(int browsers, int stages) {
+            ready = new CountDownLatch(browsers);
+            restarts = new AtomicLongArray(stages);
+        }
+    }
+
+    private static void browse(String product, StageClock clock, List<LoadStats> stepStats) {
+        try {
+            boolean warm = warmUp();
+            clock.ready.countDown();
+            if (!warm || !await(clock.started)) {
+                return;
+            }
+            while (!clock.finished) {
+                try {
+                    journey(product, clock, stepStats);
+                } catch (RuntimeException | AssertionError e) {
+                    if (clock.finished) {
+                        break;
+                    }
+                    logger.warn("Browser journey failed, restarting the browser: {}", e.getMessage());
+                    clock.restarts.incrementAndGet(clock.stage);
+                    closeWebDriver();
+                    warmUp();
+                }
+            }
+        } finally {
+            closeWebDriver();
+        }
+    }
+
+    // Starts the browser and loads the home page once, outside the measurements
+    private static boolean warmUp() {
+        try {
+            new HomePage().open();
+            return true;
+        } catch (RuntimeException | AssertionError e) {
+            logger.error("Browser could not be started: {}", e.getMessage());
+            closeWebDriver();
+            return false;
+        }
+    }
+
+    private static void journey(String product, StageClock clock, List<LoadStats> stepStats) {
+        HomePage homePage = new HomePage();
+        ProductDetailsPage productPage = new ProductDetailsPage();
+        CartPage cartPage = new CartPage();
+        OrderPlacementPage orderPage = new OrderPlacementPage();
+
+        step("Home", clock, stepStats, homePage::open);
+        step("Product details", clock, stepStats, () -> homePage.clickProduct(product));
+        step("Add to cart", clock, stepStats, () -> productPage.clickAddToCart().confirmProductAdded());
+        step("Cart", clock, stepStats, () -> homePage.clickCartLink().verifyProductInCart(product));
+        step("Order form", clock, stepStats, () -> cartPage.clickPlaceOrder().verifyOrderFormVisible());
+        step("Purchase", clock, stepStats, () -> {
+            orderPage.fillOrderDetails(TestData.OrderFormData.VALID_NAME, TestData.OrderFormData.VALID_COUNTRY,
+                    TestData.OrderFormData.VALID_CITY, TestData.OrderFormData.VALID_CREDIT_CARD,
+                    TestData.OrderFormData.VALID_MONTH, TestData.OrderFormData.VALID_YEAR)
+                .clickPurchase();
+            $(By.xpath(TestData.Selectors.Messages.THANK_YOU_PURCHASE)).shouldBe(visible);
+            $(By.cssSelector(TestData.Selectors.Buttons.CONFIRM_BUTTON)).click();
+        });
+        // Next journey starts with an empty cart
+        Selenide.clearBrowserCookies();
+        Selenide.clearBrowserLocalStorage();
+    }
+
+    // Failed steps are recorded as errors and end the journey
+    private static void step(String name, StageClock clock, List<LoadStats> stepStats, Runnable action) {
+        if (clock.finished) {
+            throw new IllegalStateException("Run finished");
+        }
+        LoadStats stats = stepStats.get(clock.stage);
+        long started = System.nanoTime();
+        boolean success = false;
+        try {
+            action.run();
+            success = true;
+        } finally {
+            stats.record(name, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - started), success);
+        }
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.MINUTES)) {
+                logger.warn("Gave up waiting for the browsers after 5 minutes");
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void awaitTermination(ExecutorService journeys) {
+        try {
+            if (!journeys.awaitTermination(5, TimeUnit.MINUTES)) {
+                logger.warn("Browser journeys did not finish within 5 minutes of the run");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
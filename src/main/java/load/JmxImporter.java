@@ -0,0 +1,465 @@
+package load;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Reads a JMeter .jmx plan into a {@link Scenario} for {@link LoadRunner}, so plans stay editable in the JMeter GUI
+ * Supported: the first enabled Thread Group, Transaction and Simple Controllers (flattened), HTTP samplers,
+ * HTTP Request Defaults, Header Managers, Constant and Uniform Random Timers, User Defined Variables and
+ * ${__P(name,default)} properties. Header managers, defaults and timers apply to their whole scope as in JMeter.
+ * Everything else is skipped and listed in {@link ImportedPlan#report()}; disabled elements are skipped silently.
+ *
+ * Thread Group counts are reported but not used: users, ramp-up and duration come from {@link LoadProfile}.
+ *
+ * Usage:
+ * ImportedPlan plan = JmxImporter.read(Path.of("test-plans/demoblaze-performance-test.jmx"), LoadProfile.planProperties());
+ * plan.report().forEach(logger::warn);
+ * LoadRunner.run(plan.scenario(), LoadProfile.load(), plan.variables());
+ */
+public final class JmxImporter {
+
+    // HttpClient refuses to set these; the connection layer manages them
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+    private static final Pattern REFERENCE = Pattern.compile("\\$\\{([^}]+)}");
+    private static final Pattern PROPERTY_FUNCTION = Pattern.compile("__P(?:roperty)?\\(([^,)]+)(?:,([^)]*))?\\)");
+
+    // Resolved per user at run time (see VirtualUser)
+    private static final Set<String> RUNTIME_REFERENCES = Set.of("cookie", "__UUID()");
+
+    private static final Set<String> IGNORED_LISTENERS = Set.of("ResultCollector", "BackendListener", "Summariser");
+
+    /**
+     * An imported plan: the scenario, the plan's variables and what could not be carried over.
+     */
+    public record ImportedPlan(Scenario scenario, Map<String, String> variables, List<String> report) {
+    }
+
+    private record Defaults(String protocol, String domain, String port, String path) {
+
+        static final Defaults NONE = new Defaults("", "", "", "");
+
+        Defaults overriddenBy(Defaults other) {
+            return new Defaults(pick(other.protocol, protocol), pick(other.domain, domain),
+                pick(other.port, port), pick(other.path, path));
+        }
+
+        private static String pick(String preferred, String fallback) {
+            return preferred.isEmpty() ? fallback : preferred;
+        }
+    }
+
+    private record Scope(Map<String, String> headers, List<Scenario.Pause> timers, Defaults defaults) {
+    }
+
+    private final Properties properties;
+    private final Map<String, String> variables = new LinkedHashMap<>();
+    private final Set<String> report = new LinkedHashSet<>();
+    private Scenario.Builder scenario;
+    private int requests;
+
+    private JmxImporter(Properties properties) {
+        this.properties = properties;
+    }
+
+    public static ImportedPlan read(Path jmx, Properties properties) {
+        Document document = parse(jmx);
+        Element planTree = child(document.getDocumentElement(), "hashTree");
+        if (planTree == null) {
+            throw new IllegalArgumentException(jmx + " is not a JMeter test plan");
+        }
+        JmxImporter importer = new JmxImporter(properties);
+        importer.walk(planTree, new Scope(Map.of(), List.of(), Defaults.NONE), false);
+        if (importer.scenario == null) {
+            throw new IllegalArgumentException(jmx + " has no enabled Thread Group");
+        }
+        if (importer.requests == 0) {
+            throw new IllegalArgumentException(jmx + " has no enabled HTTP samplers");
+        }
+        importer.checkReferences();
+        return new ImportedPlan(importer.scenario.build(), Map.copyOf(importer.variables), List.copyOf(importer.report));
+    }
+
+    // Config elements apply to their whole level whatever their position, so they are read before the samplers
+    private void walk(Element hashTree, Scope parent, boolean inThreadGroup) {
+        List<Element[]> children = pairs(hashTree);
+        Scope scope = scopeOf(children, parent);
+        for (Element[] pair : children) {
+            Element element = pair[0];
+            Element subtree = pair[1];
+            String type = element.getTagName();
+            switch (type) {
+                case "TestPlan" -> {
+                    readVariables(element);
+                    walk(subtree, scope, false);
+                }
+                case "Arguments", "HeaderManager", "ConfigTestElement", "ConstantTimer", "UniformRandomTimer" -> {
+                    // Already applied through scopeOf
+                }
+                case "ThreadGroup" -> threadGroup(element, subtree, scope, inThreadGroup);
+                case "TransactionController", "GenericController" -> {
+                    if (!inThreadGroup) {
+                        unsupported(element, "controllers outside a Thread Group are not supported");
+                    } else {
+                        if ("TransactionController".equals(type)) {
+                            note("Transaction Controller '" + name(element) + "': its requests are reported individually,"
+                                + " without a transaction sample");
+                        }
+                        walk(subtree, scope, true);
+                    }
+                }
+                case "HTTPSamplerProxy", "HTTPSampler" -> {
+                    if (!inThreadGroup) {
+                        unsupported(element, "samplers outside a Thread Group are not supported");
+                    } else {
+                        sampler(element, subtree, scope);
+                    }
+                }
+                case "CookieManager" -> note("HTTP Cookie Manager: response cookies are not kept between requests");
+                case "CacheManager" -> note("HTTP Cache Manager: not emulated; every request goes to the server");
+                case "DNSCacheManager" -> {
+                    if (!emptyCollection(element, "DNSCacheManager.servers") || !emptyCollection(element, "DNSCacheManager.hosts")) {
+                        unsupported(element, "custom DNS servers and static hosts are not supported");
+                    }
+                }
+                case "AuthManager" -> {
+                    if (!emptyCollection(element, "AuthManager.auth_list")) {
+                        unsupported(element, "HTTP authorization is not supported");
+                    }
+                }
+                default -> {
+                    if (IGNORED_LISTENERS.contains(type)) {
+                        note(type + " '" + name(element) + "': listeners are not needed, LoadRunner reports results itself");
+                    } else {
+                        unsupported(element, "element type is not supported");
+                    }
+                }
+            }
+        }
+    }
+
+    private Scope scopeOf(List<Element[]> children, Scope parent) {
+        Map<String, String> headers = new LinkedHashMap<>(parent.headers());
+        List<Scenario.Pause> timers = new ArrayList<>(parent.timers());
+        Defaults defaults = parent.defaults();
+        for (Element[] pair : children) {
+            Element element = pair[0];
+            switch (element.getTagName()) {
+                case "Arguments" -> readArguments(element);
+                case "HeaderManager" -> readHeaders(element, headers);
+                case "ConfigTestElement" -> {
+                    defaults = defaults.overriddenBy(new Defaults(prop(element, "HTTPSampler.protocol"),
+                        prop(element, "HTTPSampler.domain"), port(prop(element, "HTTPSampler.port")),
+                        prop(element, "HTTPSampler.path")));
+                    if ("true".equals(prop(element, "HTTPSampler.image_parser"))) {
+                        note("HTTP Request Defaults: embedded resources (images, scripts, styles) are not downloaded");
+                    }
+                }
+                case "ConstantTimer" -> timers.add(new Scenario.Pause(number(element, "ConstantTimer.delay"), 0));
+                case "UniformRandomTimer" -> timers.add(new Scenario.Pause(number(element, "ConstantTimer.delay"),
+                    number(element, "RandomTimer.range")));
+                default -> {
+                    if (element.getTagName().endsWith("Timer")) {
+                        unsupported(element, "only Constant and Uniform Random Timers are supported");
+                    }
+                }
+            }
+        }
+        return new Scope(headers, timers, defaults);
+    }
+
+    private void threadGroup(Element element, Element subtree, Scope scope, boolean inThreadGroup) {
+        if (inThreadGroup || scenario != null) {
+            unsupported(element, "only the first Thread Group is imported");
+            return;
+        }
+        Element loopController = elementProp(element, "ThreadGroup.main_controller");
+        note(String.format(Locale.ROOT, "Thread Group '%s': %s threads, %s s ramp-up, %s loops and %s s duration"
+                + " replaced by the load profile (user.properties, -Dload.*)", name(element),
+            resolve(prop(element, "ThreadGroup.num_threads")), resolve(prop(element, "ThreadGroup.ramp_time")),
+            loopController == null ? "?" : resolve(prop(loopController, "LoopController.loops")),
+            resolve(prop(element, "ThreadGroup.duration"))));
+        if (!"continue".equals(prop(element, "ThreadGroup.on_sample_error"))) {
+            note("Thread Group '" + name(element) + "': errors never stop a user; on_sample_error="
+                + prop(element, "ThreadGroup.on_sample_error") + " is ignored");
+        }
+        scenario = Scenario.named(name(element));
+        walk(subtree, scope, true);
+    }
+
+    private void sampler(Element element, Element subtree, Scope parent) {
+        List<Element[]> children = pairs(subtree);
+        Scope scope = scopeOf(children, parent);
+        for (Element[] pair : children) {
+            String type = pair[0].getTagName();
+            if (!type.equals("HeaderManager") && !type.endsWith("Timer") && !type.equals("Arguments")
+                && !type.equals("ConfigTestElement")) {
+                unsupported(pair[0], "elements inside samplers (assertions, extractors, processors) are not supported");
+            }
+        }
+
+        Defaults defaults = scope.defaults().overriddenBy(new Defaults(prop(element, "HTTPSampler.protocol"),
+            prop(element, "HTTPSampler.domain"), port(prop(element, "HTTPSampler.port")), prop(element, "HTTPSampler.path")));
+        String method = prop(element, "HTTPSampler.method").isEmpty() ? "GET" : prop(element, "HTTPSampler.method");
+        String url = resolve(url(defaults));
+        String body = null;
+
+        Map<String, String> headers = new LinkedHashMap<>(scope.headers());
+        List<Element> arguments = arguments(element);
+        if ("true".equals(prop(element, "HTTPSampler.postBodyRaw"))) {
+            StringBuilder raw = new StringBuilder();
+            arguments.forEach(argument -> raw.append(prop(argument, "Argument.value")));
+            body = resolve(raw.toString());
+        } else if (!arguments.isEmpty()) {
+            String encoded = encodeArguments(arguments);
+            if (Set.of("GET", "HEAD", "OPTIONS", "DELETE").contains(method)) {
+                url = url + (url.contains("?") ? "&" : "?") + encoded;
+            } else {
+                body = encoded;
+                headers.putIfAbsent("Content-Type", "application/x-www-form-urlencoded");
+            }
+        }
+        if (!"true".equals(prop(element, "HTTPSampler.follow_redirects")) && !prop(element, "HTTPSampler.follow_redirects").isEmpty()) {
+            note("Sampler '" + name(element) + "': redirects are always followed");
+        }
+
+        scope.timers().forEach(timer -> scenario.pause(timer.delayMs(), timer.rangeMs()));
+        scenario.request(name(element), method, url, headers, body);
+        requests++;
+    }
+
+    private String url(Defaults defaults) {
+        String path = defaults.path();
+        if (path.startsWith("http://") || path.startsWith("https://")) {
+            return path;
+        }
+        String protocol = defaults.protocol().isEmpty() ? "http" : defaults.protocol();
+        String port = defaults.port().isEmpty() ? "" : ":" + defaults.port();
+        return protocol + "://" + defaults.domain() + port + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    private String encodeArguments(List<Element> arguments) {
+        List<String> pairs = new ArrayList<>();
+        for (Element argument : arguments) {
+            String name = resolve(prop(argument, "Argument.name"));
+            String value = resolve(prop(argument, "Argument.value"));
+            boolean encode = "true".equals(prop(argument, "HTTPArgument.always_encode"));
+            pairs.add(encode ? URLEncoder.encode(name, StandardCharsets.UTF_8) + "=" + URLEncoder.encode(value, StandardCharsets.UTF_8)
+                : name + "=" + value);
+        }
+        return String.join("&", pairs);
+    }
+
+    private void readVariables(Element testPlan) {
+        Element userDefined = elementProp(testPlan, "TestPlan.user_defined_variables");
+        if (userDefined != null) {
+            readArguments(userDefined);
+        }
+    }
+
+    private void readArguments(Element arguments) {
+        for (Element argument : collection(arguments, "Arguments.arguments")) {
+            variables.put(prop(argument, "Argument.name"), resolve(prop(argument, "Argument.value")));
+        }
+    }
+
+    private void readHeaders(Element headerManager, Map<String, String> headers) {
+        for (Element header : collection(headerManager, "HeaderManager.headers")) {
+            String name = prop(header, "Header.name");
+            if (RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                note("Header '" + name + "' is managed by the HTTP client and was dropped");
+            } else {
+                headers.put(name, resolve(prop(header, "Header.value")));
+            }
+        }
+    }
+
+    // ${VAR} from User Defined Variables and ${__P(name,default)} from the properties; others are left for run time
+    private String resolve(String value) {
+        if (value.indexOf('$') < 0) {
+            return value;
+        }
+        Matcher matcher = REFERENCE.matcher(value);
+        StringBuilder out = new StringBuilder();
+        while (matcher.find()) {
+            String reference = matcher.group(1);
+            Matcher property = PROPERTY_FUNCTION.matcher(reference);
+            String replacement;
+            if (property.matches()) {
+                replacement = System.getProperty(property.group(1), properties.getProperty(property.group(1),
+                    property.group(2) == null ? "1" : property.group(2)));
+            } else {
+                replacement = variables.get(reference);
+            }
+            matcher.appendReplacement(out, Matcher.quoteReplacement(replacement != null ? replacement : matcher.group()));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+
+    private void checkReferences() {
+        for (Scenario.Request request : scenario.build().requests()) {
+            List<String> values = new ArrayList<>(request.headers().values());
+            values.add(request.url());
+            if (request.body() != null) {
+                values.add(request.body());
+            }
+            for (String value : values) {
+                Matcher matcher = REFERENCE.matcher(value);
+                while (matcher.find()) {
+                    String reference = matcher.group(1);
+                    if (!RUNTIME_REFERENCES.contains(reference)) {
+                        note("Reference ${" + reference + "} has no value and is sent as written");
+                    }
+                }
+            }
+        }
+    }
+
+    private void unsupported(Element element, String reason) {
+        report.add(element.getTagName() + " '" + name(element) + "': " + reason + "; skipped");
+    }
+
+    private void note(String message) {
+        report.add(message);
+    }
+
+    private double number(Element element, String name) {
+        String value = resolve(prop(element, name)).trim();
+        try {
+            return value.isEmpty() ? 0 : Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            unsupported(element, name + "=" + value + " is not a number");
+            return 0;
+        }
+    }
+
+    private static String port(String port) {
+        return port.isEmpty() || "0".equals(port) ? "" : port;
+    }
+
+    private static String name(Element element) {
+        return element.getAttribute("testname");
+    }
+
+    private static boolean enabled(Element element) {
+        return !"false".equals(element.getAttribute("enabled"));
+    }
+
+    // Element/hashTree pairs of a hashTree; disabled elements are dropped
+    private static List<Element[]> pairs(Element hashTree) {
+        List<Element[]> pairs = new ArrayList<>();
+        if (hashTree == null) {
+            return pairs;
+        }
+        Element pending = null;
+        for (Node node = hashTree.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (!(node instanceof Element element)) {
+                continue;
+            }
+            if ("hashTree".equals(element.getTagName())) {
+                if (pending != null && enabled(pending)) {
+                    pairs.add(new Element[] {pending, element});
+                }
+                pending = null;
+            } else {
+                if (pending != null && enabled(pending)) {
+                    pairs.add(new Element[] {pending, null});
+                }
+                pending = element;
+            }
+        }
+        if (pending != null && enabled(pending)) {
+            pairs.add(new Element[] {pending, null});
+        }
+        return pairs;
+    }
+
+    private static String prop(Element element, String name) {
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element child && name.equals(child.getAttribute("name"))
+                && child.getTagName().endsWith("Prop") && !"elementProp".equals(child.getTagName())) {
+                return child.getTextContent();
+            }
+        }
+        return "";
+    }
+
+    private static Element elementProp(Element element, String name) {
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element child && "elementProp".equals(child.getTagName()) && name.equals(child.getAttribute("name"))) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    private static List<Element> collection(Element element, String name) {
+        List<Element> items = new ArrayList<>();
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element child && "collectionProp".equals(child.getTagName()) && name.equals(child.getAttribute("name"))) {
+                for (Node item = child.getFirstChild(); item != null; item = item.getNextSibling()) {
+                    if (item instanceof Element itemElement) {
+                        items.add(itemElement);
+                    }
+                }
+            }
+        }
+        return items;
+    }
+
+    private static boolean emptyCollection(Element element, String name) {
+        return collection(element, name).isEmpty();
+    }
+
+    private static List<Element> arguments(Element sampler) {
+        Element arguments = elementProp(sampler, "HTTPsampler.Arguments");
+        return arguments == null ? List.of() : collection(arguments, "Arguments.arguments");
+    }
+
+    private static Element child(Element element, String tag) {
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element child && tag.equals(child.getTagName())) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    private static Document parse(Path jmx) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_SCHEMA, "");
+            factory.setExpandEntityReferences(false);
+            return factory.newDocumentBuilder().parse(jmx.toFile());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + jmx, e);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IllegalArgumentException("Could not parse " + jmx + ": " + e.getMessage(), e);
+        }
+    }
+}
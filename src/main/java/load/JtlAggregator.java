@@ -0,0 +1,588 @@
+package load;
+
+import metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * Single-pass, constant-memory aggregation of JMeter CSV results (.jtl) of any size
+ * The file is memory-mapped in windows and parsed as bytes, so nothing is held per sample: each label keeps a
+ * {@link LatencyHistogram} and counters, and the timeline keeps one bucket per granularity interval. The file is
+ * split into parts that are aggregated in parallel, then merged; histograms merge exactly. Quoted fields such as
+ * failureMessage may span lines, so a part starts only at a line that parses as a whole sample: epoch-ms
+ * timeStamp and elapsed first, the header's number of fields and a true/false success. Files without a header
+ * or with another column order are read as one part.
+ *
+ * Settings come from the same user.properties JMeter's report generator uses: overall_granularity, the Apdex
+ * thresholds, series_filter, and response_time_threshold (p95) / error_rate_threshold for the verdict.
+ * Results go to the log and to target/metrics/jtl-summary.json; the process exits with status 1 when a
+ * threshold fails. Timestamps must be epoch milliseconds (JMeter's default timestamp_format=ms).
+ *
+ * Configuration (system properties):
+ * -Dload.properties=test-plans/user.properties
+ * -Djtl.threads=<cores>               parts aggregated in parallel
+ *
+ * Usage:
+ * mvn compile exec:java -Dexec.mainClass=load.JtlAggregator -Dexec.args="results.jtl"
+ */
+public final class JtlAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(JtlAggregator.class);
+
+    // Columns of JMeter's default CSV layout, used when the file has no header line
+    private static final String[] DEFAULT_COLUMNS = {"timeStamp", "elapsed", "label", "success"};
+    private static final int[] DEFAULT_INDEXES = {0, 1, 2, 7};
+
+    private static final long MAX_WINDOW = 256L * 1024 * 1024;
+    static final long MIN_PART_BYTES = 1024 * 1024;
+    private static final Pattern RECORD_START = Pattern.compile("\\d{10,16},\\d{1,18},");
+    private static final long INVALID = Long.MIN_VALUE;
+
+    /**
+     * Report settings, named after their jmeter.reportgenerator properties.
+     */
+    public record Settings(long granularityMs, long apdexSatisfiedMs, long apdexToleratedMs, Pattern seriesFilter,
+                           int threads) {
+
+        public static Settings from(Properties plan) {
+            String filter = plan.getProperty("jmeter.reportgenerator.exporter.html.series_filter", "").trim();
+            return new Settings(
+                Long.parseLong(plan.getProperty("jmeter.reportgenerator.overall_granularity", "60000").trim()),
+                Long.parseLong(plan.getProperty("jmeter.reportgenerator.apdex_satisfied_threshold", "500").trim()),
+                Long.parseLong(plan.getProperty("jmeter.reportgenerator.apdex_tolerated_threshold", "1500").trim()),
+                filter.isEmpty() ? null : Pattern.compile(filter),
+                Integer.parseInt(System.getProperty("jtl.threads",
+                    String.valueOf(Runtime.getRuntime().availableProcessors())).trim()));
+        }
+    }
+
+    /**
+     * Samples, errors and Apdex counts with an elapsed-time histogram in ms; mergeable across file parts.
+     */
+    public static final class LabelAggregate {
+        final LatencyHistogram elapsed = new LatencyHistogram();
+        long errors;
+        long satisfied;
+        long tolerated;
+        long firstTimestamp = Long.MAX_VALUE;
+        long lastEnd = Long.MIN_VALUE;
+
+        void record(long timestamp, long elapsedMs, boolean success, Settings settings) {
+            elapsed.record(elapsedMs);
+            if (!success) {
+                errors++;
+            } else if (elapsedMs <= settings.apdexSatisfiedMs()) {
+                satisfied++;
+            } else if (elapsedMs <= settings.apdexToleratedMs()) {
+                tolerated++;
+            }
+            firstTimestamp = Math.min(firstTimestamp, timestamp);
+            lastEnd = Math.max(lastEnd, timestamp + elapsedMs);
+        }
+
+        void merge(LabelAggregate other) {
+            elapsed.merge(other.elapsed);
+            errors += other.errors;
+            satisfied += other.satisfied;
+            tolerated += other.tolerated;
+            firstTimestamp = Math.min(firstTimestamp, other.firstTimestamp);
+            lastEnd = Math.max(lastEnd, other.lastEnd);
+        }
+
+        public long samples() {
+            return elapsed.count();
+        }
+
+        public double errorRatePercent() {
+            return samples() == 0 ? 0 : errors * 100.0 / samples();
+        }
+
+        public double p95Millis() {
+            return elapsed.percentile(95);
+        }
+
+        // Samples per second over the label's own first start to last end, as JMeter reports it
+        public double throughput() {
+            return samples() == 0 ? 0 : samples() / (Math.max(1, lastEnd - firstTimestamp) / 1000.0);
+        }
+
+        public double apdex() {
+            return samples() == 0 ? 0 : (satisfied + tolerated / 2.0) / samples();
+        }
+
+        Map<String, Object> summary() {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("samples", samples());
+            row.put("errors", errors);
+            row.put("errorRate", round(errorRatePercent()));
+            row.put("throughput", round(throughput()));
+            row.put("apdex", round(apdex()));
+            row.put("meanMs", round(elapsed.mean()));
+            row.put("minMs", elapsed.min());
+            row.put("p50Ms", elapsed.percentile(50));
+            row.put("p90Ms", elapsed.percentile(90));
+            row.put("p95Ms", elapsed.percentile(95));
+            row.put("p99Ms", elapsed.percentile(99));
+            row.put("maxMs", elapsed.max());
+            return row;
+        }
+    }
+
+    /**
+     * Everything aggregated from one or more files or file parts.
+     */
+    public static final class Result {
+        final Map<String, LabelAggregate> labels = new HashMap<>();
+        final LabelAggregate total = new LabelAggregate();
+        // Bucket start -> samples, errors, elapsed sum
+        final TreeMap<Long, long[]> timeline = new TreeMap<>();
+        long malformedLines;
+
+        void merge(Result other) {
+            other.labels.forEach((label, aggregate) -> labels.computeIfAbsent(label, l -> new LabelAggregate()).merge(aggregate));
+            total.merge(other.total);
+            other.timeline.forEach((start, bucket) -> {
+                long[] mine = timeline.computeIfAbsent(start, s -> new long[3]);
+                for (int i = 0; i < mine.length; i++) {
+                    mine[i] += bucket[i];
+                }
+            });
+            malformedLines += other.malformedLines;
+        }
+
+        public LabelAggregate total() {
+            return total;
+        }
+
+        public long malformedLines() {
+            return malformedLines;
+        }
+
+        /**
+         * Label -> count, errors, throughput, Apdex and latency percentiles in ms; TOTAL last.
+         */
+        public Map<String, Map<String, Object>> summary() {
+            Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+            new TreeMap<>(labels).forEach((label, aggregate) -> summary.put(label, aggregate.summary()));
+            summary.put(LoadStats.TOTAL, total.summary());
+            return summary;
+        }
+
+        /**
+         * Per granularity interval: start time, samples, throughput, error rate and mean elapsed time.
+         */
+        public List<Map<String, Object>> timeline(long granularityMs) {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            timeline.forEach((start, bucket) -> {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("start", start);
+                row.put("samples", bucket[0]);
+                row.put("throughput", round(bucket[0] / (granularityMs / 1000.0)));
+                row.put("errorRate", round(bucket[0] == 0 ? 0 : bucket[1] * 100.0 / bucket[0]));
+                row.put("meanMs", round(bucket[0] == 0 ? 0 : (double) bucket[2] / bucket[0]));
+                rows.add(row);
+            });
+            return rows;
+        }
+
+        /**
+         * Aggregate-report style text table.
+         */
+        public String table() {
+            StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "%-28s %10s %7s %9s %6s %9s %8s %8s %8s %8s%n",
+                "Label", "Samples", "Error%", "Req/s", "Apdex", "Mean", "p50", "p90", "p95", "p99"));
+            summary().forEach((label, row) -> out.append(String.format(Locale.ROOT,
+                "%-28s %10d %7.2f %9.1f %6.2f %9.1f %8d %8d %8d %8d%n", label, row.get("samples"), row.get("errorRate"),
+                row.get("throughput"), row.get("apdex"), row.get("meanMs"), row.get("p50Ms"), row.get("p90Ms"),
+                row.get("p95Ms"), row.get("p99Ms"))));
+            return out.toString();
+        }
+    }
+
+    private JtlAggregator() {
+    }
+
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            throw new IllegalArgumentException("Usage: JtlAggregator <results.jtl> [more.jtl ...]");
+        }
+        LoadProfile profile = LoadProfile.load();
+        Settings settings = Settings.from(LoadProfile.planProperties());
+        List<Path> files = new ArrayList<>();
+        for (String arg : args) {
+            files.add(Path.of(arg));
+        }
+
+        long started = System.nanoTime();
+        Result result = aggregate(files, settings);
+        logger.info("Aggregated {} samples from {} in {} ms\n{}", result.total().samples(), files,
+            (System.nanoTime() - started) / 1_000_000, result.table());
+        if (result.malformedLines() > 0) {
+            logger.warn("Skipped {} lines that are not JMeter CSV samples", result.malformedLines());
+        }
+        List<String> violations = LoadStats.thresholdViolations(result.total().samples(), result.total().p95Millis(),
+            result.total().errorRatePercent(), profile);
+        violations.forEach(violation -> logger.error("Threshold failed: {}", violation));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("files", files.stream().map(Path::toString).toList());
+        summary.put("granularityMs", settings.granularityMs());
+        summary.put("malformedLines", result.malformedLines());
+        summary.put("thresholdViolations", violations);
+        summary.put("labels", result.summary());
+        summary.put("timeline", result.timeline(settings.granularityMs()));
+        LoadRunner.writeSummary("jtl-summary.json", summary);
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Aggregates the files in one pass each, splitting every file into {@link Settings#threads()} parts.
+     */
+    public static Result aggregate(List<Path> files, Settings settings) {
+        Result result = new Result();
+        try (ExecutorService workers = Executors.newFixedThreadPool(Math.max(1, settings.threads()))) {
+            for (Path file : files) {
+                for (Future<Result> part : submitParts(file, settings, workers)) {
+                    result.merge(part.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while aggregating " + files, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Could not aggregate " + files, e.getCause());
+        }
+        return result;
+    }
+
+    private static List<Future<Result>> submitParts(Path file, Settings settings, ExecutorService workers) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            String header = firstLine(channel);
+            boolean hasHeader = header.startsWith("timeStamp");
+            int[] columns = hasHeader ? columnIndexes(header) : DEFAULT_INDEXES;
+            long dataStart = hasHeader ? Math.min(size, header.getBytes(StandardCharsets.UTF_8).length + 1L) : 0;
+
+            int fieldCount = hasHeader ? header.strip().split(",").length : 0;
+            boolean splittable = hasHeader && columns[0] == 0 && columns[1] == 1;
+            int parts = splittable ? (int) Math.max(1, Math.min(settings.threads(), (size - dataStart) / MIN_PART_BYTES)) : 1;
+            List<Long> bounds = new ArrayList<>(List.of(dataStart));
+            for (int i = 1; i < parts; i++) {
+                long bound = nextRecordStart(channel, dataStart + (size - dataStart) * i / parts, fieldCount, columns[3]);
+                if (bound > bounds.get(bounds.size() - 1) && bound < size) {
+                    bounds.add(bound);
+                }
+            }
+            bounds.add(size);
+
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < bounds.size() - 1; i++) {
+                long from = bounds.get(i);
+                long to = bounds.get(i + 1);
+                futures.add(workers.submit(() -> aggregatePart(file, from, to, columns, settings)));
+            }
+            return futures;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file, e);
+        }
+    }
+
+    private static Result aggregatePart(Path file, long from, long to, int[] columns, Settings settings) {
+        Result result = new Result();
+        PartParser parser = new PartParser(columns, settings, result);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long position = from;
+            while (position < to) {
+                long length = Math.min(MAX_WINDOW, to - position);
+                boolean last = position + length == to;
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int consumed = parser.parse(window, last);
+                if (consumed == 0) {
+                    throw new IllegalArgumentException(file + " has a line longer than " + MAX_WINDOW + " bytes at " + position);
+                }
+                position += consumed;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file, e);
+        }
+        return result;
+    }
+
+    /**
+     * Byte-level CSV parsing of one file part; quoted fields may contain delimiters, quotes and newlines.
+     */
+    private static final class PartParser {
+
+        private final int[] columns;
+        private final int lastColumn;
+        private final Settings settings;
+        private final Result result;
+        private final int[] starts;
+        private final int[] ends;
+        private final boolean[] quoted;
+        // Labels repeat on every line; keep one String and filter decision per distinct label
+        private final Map<String, LabelAggregate> included = new HashMap<>();
+        private final Map<String, Boolean> filtered = new HashMap<>();
+
+        PartParser(int[] columns, Settings settings, Result result) {
+            this.columns = columns;
+            this.settings = settings;
+            this.result = result;
+            int max = 0;
+            for (int column : columns) {
+                max = Math.max(max, column);
+            }
+            this.lastColumn = max;
+            this.starts = new int[max + 1];
+            this.ends = new int[max + 1];
+            this.quoted = new boolean[max + 1];
+        }
+
+        /**
+         * Parses every complete record in the window and returns the bytes consumed; with {@code last} the window's
+         * end also ends the final line, and a record cut off inside a quoted field counts as malformed.
+         */
+        int parse(ByteBuffer window, boolean last) {
+            int limit = window.limit();
+            int position = 0;
+            while (position < limit) {
+                int end = record(window, position, limit, last);
+                if (end < 0) {
+                    if (!last) {
+                        return position;
+                    }
+                    result.malformedLines++;
+                    return limit;
+                }
+                sample(window, position, Math.min(end, limit));
+                position = end + 1;
+            }
+            return limit;
+        }
+
+        // Splits one record into fields; returns the index of its newline (limit for the last line of the part),
+        // or -1 if the record is incomplete
+        private int record(ByteBuffer window, int start, int limit, boolean last) {
+            int field = 0;
+            int i = start;
+            Arrays.fill(starts, -1);
+            while (true) {
+                boolean isQuoted = i < limit && window.get(i) == '"';
+                int fieldStart = isQuoted ? i + 1 : i;
+                if (isQuoted) {
+                    i++;
+                    while (i < limit && !(window.get(i) == '"' && (i + 1 >= limit || window.get(i + 1) != '"'))) {
+                        i += window.get(i) == '"' ? 2 : 1;
+                    }
+                    if (i >= limit) {
+                        return -1;
+                    }
+                    int fieldEnd = i;
+                    i++;
+                    store(field, fieldStart, fieldEnd, true);
+                } else {
+                    while (i < limit && window.get(i) != ',' && window.get(i) != '\n') {
+                        i++;
+                    }
+                    int fieldEnd = i > fieldStart && i <= limit && window.get(i - 1) == '\r' ? i - 1 : i;
+                    store(field, fieldStart, fieldEnd, false);
+                }
+                while (i < limit && window.get(i) != ',' && window.get(i) != '\n') {
+                    i++;
+                }
+                if (i >= limit) {
+                    return last ? limit : -1;
+                }
+                if (window.get(i) == '\n') {
+                    return i;
+                }
+                i++;
+                field++;
+            }
+        }
+
+        private void store(int field, int start, int end, boolean isQuoted) {
+            if (field <= lastColumn) {
+                starts[field] = start;
+                ends[field] = end;
+                quoted[field] = isQuoted;
+            }
+        }
+
+        private void sample(ByteBuffer window, int lineStart, int lineEnd) {
+            if (lineEnd - lineStart <= 1 && (lineEnd == lineStart || window.get(lineStart) == '\r')) {
+                return;
+            }
+            long timestamp = number(window, columns[0]);
+            long elapsed = number(window, columns[1]);
+            if (timestamp == INVALID || elapsed == INVALID || starts[columns[2]] < 0 || starts[columns[3]] < 0) {
+                result.malformedLines++;
+                return;
+            }
+            String label = text(window, columns[2]);
+            if (filtered.computeIfAbsent(label, this::excluded)) {
+                return;
+            }
+            boolean success = isTrue(window, columns[3]);
+            included.computeIfAbsent(label, l -> result.labels.computeIfAbsent(l, x -> new LabelAggregate()))
+                .record(timestamp, elapsed, success, settings);
+            result.total.record(timestamp, elapsed, success, settings);
+            long[] bucket = result.timeline.computeIfAbsent(
+                Math.floorDiv(timestamp, settings.granularityMs()) * settings.granularityMs(), s -> new long[3]);
+            bucket[0]++;
+            bucket[1] += success ? 0 : 1;
+            bucket[2] += elapsed;
+        }
+
+        private boolean excluded(String label) {
+            return settings.seriesFilter() != null && !settings.seriesFilter().matcher(label).matches();
+        }
+
+        private long number(ByteBuffer window, int column) {
+            int start = starts[column];
+            int end = ends[column];
+            if (start < 0 || start >= end || end - start > 18) {
+                return INVALID;
+            }
+            long value = 0;
+            for (int i = start; i < end; i++) {
+                byte b = window.get(i);
+                if (b < '0' || b > '9') {
+                    return INVALID;
+                }
+                value = value * 10 + (b - '0');
+            }
+            return value;
+        }
+
+        private boolean isTrue(ByteBuffer window, int column) {
+            int start = starts[column];
+            return ends[column] - start == 4
+                && (window.get(start) | 0x20) == 't' && (window.get(start + 1) | 0x20) == 'r'
+                && (window.get(start + 2) | 0x20) == 'u' && (window.get(start + 3) | 0x20) == 'e';
+        }
+
+        private String text(ByteBuffer window, int column) {
+            byte[] bytes = new byte[ends[column] - starts[column]];
+            window.get(starts[column], bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            return quoted[column] ? value.replace("\"\"", "\"") : value;
+        }
+    }
+
+    private static String firstLine(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(64 * 1024, channel.size()));
+        channel.read(buffer, 0);
+        String start = new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8);
+        int newline = start.indexOf('\n');
+        return newline < 0 ? start : start.substring(0, newline);
+    }
+
+    // Column positions of timeStamp, elapsed, label and success in a header line
+    private static int[] columnIndexes(String firstLine) {
+        List<String> names = List.of(firstLine.strip().split(","));
+        int[] indexes = new int[DEFAULT_COLUMNS.length];
+        for (int i = 0; i < DEFAULT_COLUMNS.length; i++) {
+            indexes[i] = names.indexOf(DEFAULT_COLUMNS[i]);
+            if (indexes[i] < 0) {
+                throw new IllegalArgumentException("JTL header has no '" + DEFAULT_COLUMNS[i] + "' column: " + firstLine);
+            }
+        }
+        return indexes;
+    }
+
+    // First line after from that parses as a whole sample, so a part never begins inside a quoted field
+    private static long nextRecordStart(FileChannel channel, long from, int fieldCount, int successColumn) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        long position = from;
+        while (true) {
+            position = nextLineStart(channel, position);
+            if (position >= channel.size()) {
+                return channel.size();
+            }
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read > 0 && isSample(buffer.array(), read, fieldCount, successColumn)) {
+                return position;
+            }
+        }
+    }
+
+    private static boolean isSample(byte[] bytes, int length, int fieldCount, int successColumn) {
+        if (!RECORD_START.matcher(new String(bytes, 0, Math.min(length, 40), StandardCharsets.ISO_8859_1)).lookingAt()) {
+            return false;
+        }
+        int field = 0;
+        int fieldStart = 0;
+        boolean inQuotes = false;
+        for (int i = 0; i < length; i++) {
+            byte b = bytes[i];
+            if (b == '"') {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes && (b == ',' || b == '\n')) {
+                if (field == successColumn) {
+                    String success = new String(bytes, fieldStart, i - fieldStart, StandardCharsets.ISO_8859_1);
+                    if (!success.equalsIgnoreCase("true") && !success.equalsIgnoreCase("false")) {
+                        return false;
+                    }
+                }
+                if (b == '\n') {
+                    return field + 1 == fieldCount;
+                }
+                field++;
+                fieldStart = i + 1;
+            }
+        }
+        // Longer than the buffer: the fields up to success have to do
+        return field > successColumn;
+    }
+
+    private static long nextLineStart(FileChannel channel, long from) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+        long position = from;
+        while (position < channel.size()) {
+            buffer.clear();
+            int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return channel.size();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,77 @@
+package load;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Closed-model load settings, read from the JMeter user.properties so both tools run the same profile
+ * Every value can be overridden with a system property, the way -J overrides it for JMeter.
+ *
+ * Configuration (system properties):
+ * -Dload.properties=test-plans/user.properties
+ * -Dload.threads=20                   virtual users (threads)
+ * -Dload.rampup=10                    seconds until all users have started (rampup)
+ * -Dload.duration=60                  seconds to keep iterating; 0 runs one iteration per user (duration)
+ * -Dload.thinkTimeFactor=1.0          scales the recorded think times; 0 sends requests back to back
+ * -Dload.responseTimeThreshold=3000   p95 limit in ms (response_time_threshold)
+ * -Dload.errorRateThreshold=5         error limit in percent (error_rate_threshold)
+ */
+public record LoadProfile(int threads, Duration rampUp, Duration duration, double thinkTimeFactor,
+                          long responseTimeThresholdMs, double errorRateThresholdPercent,
+                          Duration connectTimeout, Duration requestTimeout) {
+
+    public static final Path DEFAULT_PROPERTIES = Path.of("test-plans", "user.properties");
+
+    /**
+     * Profile from -Dload.properties (default test-plans/user.properties) with system property overrides.
+     */
+    public static LoadProfile load() {
+        return from(planProperties());
+    }
+
+    /**
+     * The JMeter properties file named by -Dload.properties; empty if it does not exist.
+     */
+    public static Properties planProperties() {
+        return read(Path.of(System.getProperty("load.properties", DEFAULT_PROPERTIES.toString())));
+    }
+
+    public static LoadProfile from(Properties plan) {
+        return new LoadProfile(
+            Integer.parseInt(value(plan, "load.threads", "threads", "20")),
+            Duration.ofSeconds(Long.parseLong(value(plan, "load.rampup", "rampup", "10"))),
+            Duration.ofSeconds(Long.parseLong(value(plan, "load.duration", "duration", "60"))),
+            Double.parseDouble(value(plan, "load.thinkTimeFactor", "think_time_factor", "1.0")),
+            Long.parseLong(value(plan, "load.responseTimeThreshold", "response_time_threshold", "3000")),
+            Double.parseDouble(value(plan, "load.errorRateThreshold", "error_rate_threshold", "5")),
+            Duration.ofMillis(Long.parseLong(value(plan, "load.connectTimeout", "httpclient.connection.timeout", "5000"))),
+            Duration.ofMillis(Long.parseLong(value(plan, "load.requestTimeout", "httpclient.timeout", "10000"))));
+    }
+
+    @Override
+    public String toString() {
+        return threads + " users, ramp-up " + rampUp.toSeconds() + " s, duration " + duration.toSeconds()
+            + " s, think time x" + thinkTimeFactor;
+    }
+
+    private static String value(Properties plan, String systemProperty, String planProperty, String fallback) {
+        return System.getProperty(systemProperty, plan.getProperty(planProperty, fallback)).trim();
+    }
+
+    private static Properties read(Path file) {
+        Properties properties = new Properties();
+        if (Files.isRegularFile(file)) {
+            try (Reader reader = Files.newBufferedReader(file)) {
+                properties.load(reader);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read load properties " + file, e);
+            }
+        }
+        return properties;
+    }
+}
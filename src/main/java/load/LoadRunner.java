@@ -0,0 +1,151 @@
+package load;
+
+import data.Environment;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import standin.DemoBlazeStandInServer;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-model HTTP load generator: every virtual user is a virtual thread looping over a scenario
+ * Users start evenly over the ramp-up and iterate until the duration ends, like a JMeter Thread Group,
+ * sharing one java.net.http.HttpClient. Thousands of users fit in one JVM because a user blocked on
+ * I/O or think time holds no platform thread.
+ *
+ * The journey is {@link DemoBlazeJourney#shopping()}, or a JMeter plan imported with {@link JmxImporter}.
+ *
+ * Results go to the log as an aggregate table and to target/metrics/load-summary.json; the process exits
+ * with status 1 when response_time_threshold or error_rate_threshold is exceeded.
+ *
+ * Usage:
+ * mvn compile exec:java -Dexec.mainClass=load.LoadRunner
+ * mvn compile exec:java -Dexec.mainClass=load.LoadRunner -Dload.threads=2000 -Dload.duration=300
+ * mvn compile exec:java -Dexec.mainClass=load.LoadRunner -Ddemoblaze.target=standin -Dload.thinkTimeFactor=0
+ * mvn compile exec:java -Dexec.mainClass=load.LoadRunner -Dload.plan=test-plans/demoblaze-performance-test.jmx
+ */
+public final class LoadRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoadRunner.class);
+
+    private static final Path OUTPUT_DIRECTORY = Paths.get("target", "metrics");
+
+    private LoadRunner() {
+    }
+
+    public static void main(String[] args) {
+        DemoBlazeStandInServer.startIfRequested();
+        LoadProfile profile = LoadProfile.load();
+        Scenario scenario = DemoBlazeJourney.shopping();
+        Map<String, String> variables = Map.of();
+        String plan = System.getProperty("load.plan", "");
+        if (!plan.isBlank()) {
+            JmxImporter.ImportedPlan imported = JmxImporter.read(Path.of(plan), LoadProfile.planProperties());
+            imported.report().forEach(note -> logger.warn("{}: {}", plan, note));
+            scenario = imported.scenario();
+            variables = imported.variables();
+        }
+
+        LoadStats stats = run(scenario, profile, variables);
+        List<String> violations = report(scenario, profile, stats);
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    /**
+     * Runs the scenario with the profile's users, ramp-up and duration and returns the collected results.
+     * {@code planVariables} are the starting ${name} values of every user.
+     */
+    public static LoadStats run(Scenario scenario, LoadProfile profile, Map<String, String> planVariables) {
+        HttpClient client = newClient(profile);
+        LoadStats stats = new LoadStats();
+        logger.info("Running '{}' ({} requests) against {}: {}", scenario.name(), scenario.requests().size(),
+            Environment.siteUrl(), profile);
+
+        long started = System.nanoTime();
+        long deadline = profile.duration().isZero() ? 0 : started + profile.duration().toNanos();
+        stats.start();
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < profile.threads(); i++) {
+                long startAt = started + profile.rampUp().toNanos() * i / Math.max(1, profile.threads());
+                users.submit(() -> {
+                    if (!sleepUntil(startAt)) {
+                        return;
+                    }
+                    try {
+                        VirtualUser user = new VirtualUser(client, stats, profile, planVariables);
+                        boolean more = user.runIteration(scenario, deadline);
+                        while (more && deadline != 0) {
+                            more = user.runIteration(scenario, deadline);
+                        }
+                    } catch (RuntimeException e) {
+                        logger.error("Virtual user aborted", e);
+                        stats.recordAborted();
+                    }
+                });
+            }
+        }
+        stats.finish();
+        return stats;
+    }
+
+    /**
+     * Logs the aggregate table, writes target/metrics/load-summary.json and returns the threshold violations.
+     */
+    public static List<String> report(Scenario scenario, LoadProfile profile, LoadStats stats) {
+        logger.info("Load run '{}' finished: {} samples in {} s\n{}", scenario.name(), stats.samples(),
+            Math.round(stats.elapsedSeconds()), stats.table());
+        List<String> violations = stats.thresholdViolations(profile);
+        violations.forEach(violation -> logger.error("Threshold failed: {}", violation));
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", scenario.name());
+        summary.put("target", Environment.siteUrl());
+        summary.put("users", profile.threads());
+        summary.put("elapsedSeconds", Math.round(stats.elapsedSeconds() * 10) / 10.0);
+        summary.put("thresholdViolations", violations);
+        summary.put("labels", stats.summary());
+        writeSummary("load-summary.json", summary);
+        return violations;
+    }
+
+    static void writeSummary(String fileName, Map<String, Object> summary) {
+        try {
+            Files.createDirectories(OUTPUT_DIRECTORY);
+            Files.writeString(OUTPUT_DIRECTORY.resolve(fileName), new Json().toJson(summary));
+        } catch (IOException e) {
+            logger.warn("Could not write {}: {}", fileName, e.getMessage());
+        }
+    }
+
+    static HttpClient newClient(LoadProfile profile) {
+        return HttpClient.newBuilder()
+            .connectTimeout(profile.connectTimeout())
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    }
+
+    static boolean sleepUntil(long nanoTime) {
+        long wait = nanoTime - System.nanoTime();
+        if (wait <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
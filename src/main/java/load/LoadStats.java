@@ -0,0 +1,159 @@
+package load;
+
+import metrics.LatencyHistogram;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-label and overall results of a load run: latency histograms, error counts and throughput
+ * Latencies are recorded in microseconds and reported in milliseconds; recording is lock-free, so every
+ * virtual user writes straight into the shared instance. Aborted users count as error samples but have no latency,
+ * so they are kept out of every histogram.
+ */
+public final class LoadStats {
+
+    public static final String TOTAL = "TOTAL";
+    public static final String ABORTED = "Virtual user aborted";
+
+    private final Map<String, LabelStats> labels = new ConcurrentHashMap<>();
+    private final LabelStats total = new LabelStats();
+    private volatile long startedNanos;
+    private volatile long finishedNanos;
+
+    static final class LabelStats {
+        final LatencyHistogram latencyMicros = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final LongAdder aborted = new LongAdder();
+
+        long samples() {
+            return latencyMicros.count() + aborted.sum();
+        }
+    }
+
+    public void start() {
+        startedNanos = System.nanoTime();
+        finishedNanos = 0;
+    }
+
+    public void finish() {
+        finishedNanos = System.nanoTime();
+    }
+
+    public void record(String label, long latencyMicros, boolean success) {
+        LabelStats stats = labels.computeIfAbsent(label, l -> new LabelStats());
+        stats.latencyMicros.record(latencyMicros);
+        total.latencyMicros.record(latencyMicros);
+        if (!success) {
+            stats.errors.increment();
+            total.errors.increment();
+        }
+    }
+
+    /**
+     * Counts a virtual user that died on an unexpected exception as an error sample under {@link #ABORTED},
+     * without a latency.
+     */
+    public void recordAborted() {
+        LabelStats stats = labels.computeIfAbsent(ABORTED, l -> new LabelStats());
+        for (LabelStats target : List.of(stats, total)) {
+            target.aborted.increment();
+            target.errors.increment();
+        }
+    }
+
+    public long samples() {
+        return total.samples();
+    }
+
+    public double errorRatePercent() {
+        return errorRate(total);
+    }
+
+    public double percentileMillis(double percentile) {
+        return total.latencyMicros.percentile(percentile) / 1000.0;
+    }
+
+    public double elapsedSeconds() {
+        long end = finishedNanos == 0 ? System.nanoTime() : finishedNanos;
+        return Math.max(1, end - startedNanos) / 1_000_000_000.0;
+    }
+
+    /**
+     * Overall p95 against response_time_threshold and the error rate against error_rate_threshold.
+     */
+    public List<String> thresholdViolations(LoadProfile profile) {
+        return thresholdViolations(samples(), percentileMillis(95), errorRatePercent(), profile);
+    }
+
+    static List<String> thresholdViolations(long samples, double p95Millis, double errorRatePercent, LoadProfile profile) {
+        List<String> violations = new ArrayList<>();
+        if (samples == 0) {
+            violations.add("no samples were recorded");
+            return violations;
+        }
+        if (p95Millis > profile.responseTimeThresholdMs()) {
+            violations.add(String.format(Locale.ROOT, "p95 %.1f ms exceeds response_time_threshold %d ms",
+                p95Millis, profile.responseTimeThresholdMs()));
+        }
+        if (errorRatePercent > profile.errorRateThresholdPercent()) {
+            violations.add(String.format(Locale.ROOT, "error rate %.2f%% exceeds error_rate_threshold %.2f%%",
+                errorRatePercent, profile.errorRateThresholdPercent()));
+        }
+        return violations;
+    }
+
+    /**
+     * Label -> count, errors, error rate, throughput and latency percentiles in ms; TOTAL last.
+     */
+    public Map<String, Map<String, Object>> summary() {
+        Map<String, Map<String, Object>> summary = new LinkedHashMap<>();
+        new TreeMap<>(labels).forEach((label, stats) -> summary.put(label, summarize(stats)));
+        summary.put(TOTAL, summarize(total));
+        return summary;
+    }
+
+    /**
+     * Aggregate-report style text table.
+     */
+    public String table() {
+        StringBuilder out = new StringBuilder(String.format(Locale.ROOT, "%-28s %8s %7s %9s %9s %9s %9s %9s %9s%n",
+            "Label", "Samples", "Error%", "Req/s", "Mean", "p50", "p90", "p95", "p99"));
+        summary().forEach((label, row) -> out.append(String.format(Locale.ROOT,
+            "%-28s %8d %7.2f %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n", label, row.get("samples"), row.get("errorRate"),
+            row.get("throughput"), row.get("meanMs"), row.get("p50Ms"), row.get("p90Ms"), row.get("p95Ms"), row.get("p99Ms"))));
+        return out.toString();
+    }
+
+    private Map<String, Object> summarize(LabelStats stats) {
+        LatencyHistogram histogram = stats.latencyMicros;
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("samples", stats.samples());
+        row.put("errors", stats.errors.sum());
+        row.put("errorRate", round(errorRate(stats)));
+        row.put("throughput", round(stats.samples() / elapsedSeconds()));
+        row.put("meanMs", round(histogram.mean() / 1000.0));
+        row.put("minMs", round(histogram.min() / 1000.0));
+        row.put("p50Ms", round(histogram.percentile(50) / 1000.0));
+        row.put("p90Ms", round(histogram.percentile(90) / 1000.0));
+        row.put("p95Ms", round(histogram.percentile(95) / 1000.0));
+        row.put("p99Ms", round(histogram.percentile(99) / 1000.0));
+        row.put("maxMs", round(histogram.max() / 1000.0));
+        return row;
+    }
+
+    private static double errorRate(LabelStats stats) {
+        long count = stats.samples();
+        return count == 0 ? 0 : stats.errors.sum() * 100.0 / count;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,111 @@
+package load;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ordered HTTP requests and think times that one virtual user runs per iteration
+ * URLs, headers and bodies may use ${name} for per-user variables (${cookie} is the user's cart cookie)
+ * and ${__UUID()} for a fresh UUID, as in JMeter plans.
+ *
+ * Usage:
+ * Scenario journey = Scenario.named("Browse")
+ *     .get("GET index.html", Environment.homeUrl())
+ *     .pause(5894.5, 11789)
+ *     .post("POST /view", Environment.apiEndpoint("view"), "{\"id\":\"1\"}")
+ *     .build();
+ */
+public record Scenario(String name, List<Step> steps) {
+
+    public Scenario {
+        steps = List.copyOf(steps);
+    }
+
+    public sealed interface Step permits Request, Pause {
+    }
+
+    /**
+     * One HTTP request; {@code body} is null for requests without one.
+     */
+    public record Request(String label, String method, String url, Map<String, String> headers, String body)
+        implements Step {
+
+        public Request {
+            headers = Map.copyOf(headers);
+        }
+    }
+
+    /**
+     * Think time before the next request, like JMeter's Uniform Random Timer: delay plus a random share of range.
+     */
+    public record Pause(double delayMs, double rangeMs) implements Step {
+    }
+
+    public static Builder named(String name) {
+        return new Builder(name);
+    }
+
+    public List<Request> requests() {
+        return steps.stream()
+            .filter(Request.class::isInstance)
+            .map(Request.class::cast)
+            .toList();
+    }
+
+    public static final class Builder {
+
+        private final String name;
+        private final List<Step> steps = new ArrayList<>();
+        private final Map<String, String> headers = new LinkedHashMap<>();
+
+        private Builder(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Headers sent with every request added after this call.
+         */
+        public Builder headers(Map<String, String> defaults) {
+            headers.putAll(defaults);
+            return this;
+        }
+
+        public Builder get(String label, String url) {
+            return request(label, "GET", url, Map.of(), null);
+        }
+
+        public Builder options(String label, String url) {
+            return request(label, "OPTIONS", url, Map.of(), null);
+        }
+
+        /**
+         * JSON POST, as the DemoBlaze API expects.
+         */
+        public Builder post(String label, String url, String jsonBody) {
+            return request(label, "POST", url, Map.of("Content-Type", "application/json"), jsonBody);
+        }
+
+        public Builder request(String label, String method, String url, Map<String, String> extraHeaders, String body) {
+            Map<String, String> requestHeaders = new LinkedHashMap<>(headers);
+            requestHeaders.putAll(extraHeaders);
+            steps.add(new Request(label, method, url, requestHeaders, body));
+            return this;
+        }
+
+        public Builder pause(double delayMs, double rangeMs) {
+            if (delayMs > 0 || rangeMs > 0) {
+                steps.add(new Pause(delayMs, rangeMs));
+            }
+            return this;
+        }
+
+        public Scenario build() {
+            if (steps.stream().noneMatch(Request.class::isInstance)) {
+                throw new IllegalStateException("Scenario '" + name + "' has no requests");
+            }
+            return new Scenario(name, steps);
+        }
+    }
+}
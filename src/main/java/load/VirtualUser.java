@@ -0,0 +1,162 @@
+package load;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One simulated customer: runs scenario iterations with its own variables, like a JMeter thread
+ * Each iteration starts with a fresh cart cookie (the plan's Cookie Manager clears every iteration).
+ * In the open model a user runs a single session and latency counts from when each request was due, so time
+ * spent waiting for the generator or a slow previous request is not hidden (coordinated omission).
+ */
+final class VirtualUser {
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualUser.class);
+
+    private static final Pattern VARIABLE = Pattern.compile("\\$\\{([^}]+)}");
+    private static final String UUID_FUNCTION = "__UUID()";
+
+    private final HttpClient client;
+    private final LoadStats stats;
+    private final LoadProfile profile;
+    private final LoadStats serviceTimes;
+    private final Map<String, String> variables = new HashMap<>();
+
+    VirtualUser(HttpClient client, LoadStats stats, LoadProfile profile, Map<String, String> planVariables) {
+        this(client, stats, null, profile, planVariables);
+    }
+
+    /**
+     * @param serviceTimes also records send-to-response time per request, next to the intended-time latency in stats
+     */
+    VirtualUser(HttpClient client, LoadStats stats, LoadStats serviceTimes, LoadProfile profile,
+                Map<String, String> planVariables) {
+        this.client = client;
+        this.stats = stats;
+        this.serviceTimes = serviceTimes;
+        this.profile = profile;
+        this.variables.putAll(planVariables);
+    }
+
+    /**
+     * Runs the scenario once; stops early at {@code deadlineNanos} (0 for no deadline).
+     *
+     * @return false if the deadline passed or the thread was interrupted
+     */
+    boolean runIteration(Scenario scenario, long deadlineNanos) {
+        variables.put("cookie", "user=" + UUID.randomUUID());
+        for (Scenario.Step step : scenario.steps()) {
+            if (deadlineNanos != 0 && System.nanoTime() >= deadlineNanos) {
+                return false;
+            }
+            try {
+                switch (step) {
+                    case Scenario.Pause pause -> think(pause, deadlineNanos);
+                    case Scenario.Request request -> send(request);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Runs the scenario once as an open-model session that was due to start at {@code intendedNanos}.
+     * The first request's latency counts from that moment; every later one from the end of the preceding
+     * request or think time.
+     */
+    void runSession(Scenario scenario, long intendedNanos) {
+        variables.put("cookie", "user=" + UUID.randomUUID());
+        long due = intendedNanos;
+        for (Scenario.Step step : scenario.steps()) {
+            try {
+                switch (step) {
+                    case Scenario.Pause pause -> think(pause, 0);
+                    case Scenario.Request request -> send(request, Math.min(due, System.nanoTime()));
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            due = System.nanoTime();
+        }
+    }
+
+    /**
+     * Sends one request and records its latency under the request label; failures count as errors.
+     */
+    void send(Scenario.Request request) throws InterruptedException {
+        send(request, System.nanoTime());
+    }
+
+    private void send(Scenario.Request request, long intendedNanos) throws InterruptedException {
+        HttpRequest httpRequest = toHttpRequest(request);
+        long started = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = client.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() < 400;
+        } catch (IOException e) {
+            logger.debug("{} failed: {}", request.label(), e.toString());
+            success = false;
+        }
+        long finished = System.nanoTime();
+        stats.record(request.label(), TimeUnit.NANOSECONDS.toMicros(finished - intendedNanos), success);
+        if (serviceTimes != null) {
+            serviceTimes.record(request.label(), TimeUnit.NANOSECONDS.toMicros(finished - started), success);
+        }
+    }
+
+    private void think(Scenario.Pause pause, long deadlineNanos) throws InterruptedException {
+        double millis = (pause.delayMs() + ThreadLocalRandom.current().nextDouble() * pause.rangeMs())
+            * profile.thinkTimeFactor();
+        long nanos = (long) (millis * 1_000_000);
+        if (deadlineNanos != 0) {
+            nanos = Math.min(nanos, deadlineNanos - System.nanoTime());
+        }
+        if (nanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+
+    private HttpRequest toHttpRequest(Scenario.Request request) {
+        HttpRequest.BodyPublisher body = request.body() == null
+            ? HttpRequest.BodyPublishers.noBody()
+            : HttpRequest.BodyPublishers.ofString(resolve(request.body()));
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(resolve(request.url())))
+            .timeout(profile.requestTimeout())
+            .method(request.method(), body);
+        request.headers().forEach((name, value) -> builder.header(name, resolve(value)));
+        return builder.build();
+    }
+
+    private String resolve(String template) {
+        if (template.indexOf('$') < 0) {
+            return template;
+        }
+        Matcher matcher = VARIABLE.matcher(template);
+        StringBuilder out = new StringBuilder();
+        while (matcher.find()) {
+            String name = matcher.group(1);
+            String value = UUID_FUNCTION.equals(name) ? UUID.randomUUID().toString() : variables.get(name);
+            matcher.appendReplacement(out, Matcher.quoteReplacement(value != null ? value : matcher.group()));
+        }
+        matcher.appendTail(out);
+        return out.toString();
+    }
+}
@@ -7,35 +7,44 @@ import com.codeborne.selenide.SelenideElement;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import support.BatchCheck;
+import support.PageReadiness;
+import support.PageTimings;
 
 public class CartPage {
 
     private static final Logger logger = LoggerFactory.getLogger(CartPage.class);
 
-    private final SelenideElement productsHeading = Selenide.$(By.xpath("//h2[text()='Products']"));
-    private final SelenideElement totalHeading = Selenide.$(By.cssSelector("div[class='col-lg-1'] h2"));
-    private final SelenideElement picHeader = Selenide.$(By.xpath("//th[text()='Pic']"));
-    private final SelenideElement titleHeader = Selenide.$(By.xpath("//th[text()='Title']"));
-    private final SelenideElement priceHeader = Selenide.$(By.xpath("//th[text()='Price']"));
-    private final SelenideElement xHeader = Selenide.$(By.xpath("//th[text()='x']"));
-    private final SelenideElement placeOrderButton = Selenide.$(By.xpath("//button[text()='Place Order']"));
+    // Locators shared by element fields and batch verifications
+    private static final By PRODUCTS_HEADING = By.xpath("//h2[text()='Products']");
+    private static final By TOTAL_HEADING = By.cssSelector("div[class='col-lg-1'] h2");
+    private static final By PIC_HEADER = By.xpath("//th[text()='Pic']");
+    private static final By TITLE_HEADER = By.xpath("//th[text()='Title']");
+    private static final By PRICE_HEADER = By.xpath("//th[text()='Price']");
+    private static final By X_HEADER = By.xpath("//th[text()='x']");
+    private static final By PLACE_ORDER_BUTTON = By.xpath("//button[text()='Place Order']");
+
+    private final SelenideElement placeOrderButton = Selenide.$(PLACE_ORDER_BUTTON);
 
     public CartPage verifyCartHeaders() {
         logger.info("Verifying cart page headers and elements");
-        productsHeading.shouldBe(visible);
-        totalHeading.shouldBe(visible);
-        picHeader.shouldBe(visible);
-        titleHeader.shouldBe(visible);
-        priceHeader.shouldBe(visible);
-        xHeader.shouldBe(visible);
-        placeOrderButton.shouldBe(visible);
+        BatchCheck.of("Cart headers")
+            .visible(PRODUCTS_HEADING)
+            .visible(TOTAL_HEADING)
+            .visible(PIC_HEADER)
+            .visible(TITLE_HEADER)
+            .visible(PRICE_HEADER)
+            .visible(X_HEADER)
+            .visible(PLACE_ORDER_BUTTON)
+            .verify();
         logger.info("Cart headers and elements verified successfully");
         return this;
     }
 
     public SelenideElement getDeleteButtonForProduct(String productName) {
         logger.debug("Getting delete button for product: {}", productName);
-        return Selenide.$(By.xpath("//tr[contains(., '" + productName + "')]//a[text()='Delete']"));
+        CartSnapshot cart = CartSnapshot.waitFor("listing " + productName, c -> c.contains(productName));
+        return Selenide.$(cart.row(productName).orElseThrow().deleteLink());
     }
 
     public SelenideElement getFirstDeleteButton() {
@@ -51,6 +60,7 @@ public class CartPage {
     public CartPage clickDeleteButton(String productName) {
         logger.info("Deleting product from cart: {}", productName);
         getDeleteButtonForProduct(productName).click();
+        PageReadiness.await();
         logger.info("Successfully deleted product from cart: {}", productName);
         return this;
     }
@@ -58,6 +68,7 @@ public class CartPage {
     public CartPage clickFirstDeleteButton() {
         logger.info("Clicking first delete button in cart");
         getFirstDeleteButton().click();
+        PageReadiness.await();
         logger.info("Successfully clicked first delete button");
         return this;
     }
@@ -65,27 +76,57 @@ public class CartPage {
     public CartPage clickDeleteButtonByIndex(int index) {
         logger.info("Clicking delete button at index: {}", index);
         getDeleteButtonByIndex(index).click();
+        PageReadiness.await();
         logger.info("Successfully clicked delete button at index: {}", index);
         return this;
     }
 
     public CartPage verifyProductInCart(String productName) {
         logger.info("Verifying product is in cart: {}", productName);
-        Selenide.$(By.xpath("//td[normalize-space()='" + productName + "']")).shouldBe(visible);
+        CartSnapshot.waitFor("listing " + productName, cart -> cart.contains(productName));
         logger.info("Product verified in cart: {}", productName);
         return this;
     }
 
     public CartPage verifyProductNotInCart(String productName) {
         logger.info("Verifying product is NOT in cart: {}", productName);
-        Selenide.$(By.xpath("//td[text()='" + productName + "']")).shouldNotBe(visible);
+        CartSnapshot.waitFor("without " + productName, cart -> cart.isRendered() && !cart.contains(productName));
         logger.info("Product confirmed not in cart: {}", productName);
         return this;
     }
 
+    public CartPage verifyPriceInCart(int price) {
+        logger.info("Verifying an item priced {} is in cart", price);
+        CartSnapshot.waitFor("listing an item priced " + price, cart -> cart.containsPrice(price));
+        logger.info("Item priced {} verified in cart", price);
+        return this;
+    }
+
+    /**
+     * Waits until the cart is rendered, lists at least {@code minimumItems} rows and its total equals the sum of
+     * their prices.
+     */
+    public CartPage verifyTotalMatchesItems(int minimumItems) {
+        logger.info("Verifying cart total equals the sum of at least {} item(s)", minimumItems);
+        CartSnapshot cart = CartSnapshot.waitFor("totalling its " + minimumItems + "+ item(s)",
+            c -> c.isRendered() && c.rows().size() >= minimumItems && c.totalMatchesRows());
+        logger.info("Cart total {} matches {} item(s)", cart.total(), cart.rows().size());
+        return this;
+    }
+
+    public CartPage verifyCartEmpty() {
+        logger.info("Verifying cart is empty");
+        CartSnapshot.waitFor("empty with no total",
+            cart -> cart.isRendered() && cart.isEmpty() && cart.total().isEmpty());
+        logger.info("Cart verified empty");
+        return this;
+    }
+
     public OrderPlacementPage clickPlaceOrder() {
         logger.info("Clicking 'Place Order' button");
+        double mark = PageTimings.mark();
         placeOrderButton.click();
+        PageTimings.captureInteraction("Order form", mark, "#orderModal");
         logger.info("Successfully clicked 'Place Order' button");
         return new OrderPlacementPage();
     }
@@ -93,6 +134,7 @@ public class CartPage {
     public HomePage navigateToHome() {
         logger.info("Navigating back to home page from cart");
         Selenide.$(By.cssSelector("li[class='nav-item active'] a[class='nav-link']")).click();
+        PageReadiness.await();
         logger.info("Successfully navigated to home page from cart");
         return new HomePage();
     }
@@ -100,7 +142,7 @@ public class CartPage {
     // BDD-specific methods
     public CartPage verifyCartTotal() {
         logger.info("BDD: Verifying cart total is visible");
-        totalHeading.shouldBe(visible);
+        BatchCheck.of("Cart total").visible(TOTAL_HEADING).verify();
         logger.info("BDD: Cart total verified");
         return this;
     }
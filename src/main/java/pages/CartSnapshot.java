@@ -0,0 +1,184 @@
+package pages;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import support.DomWaits;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.function.Predicate;
+
+/**
+ * Immutable view of the cart table and total, read in a single script call
+ * Membership, counts and the total check are answered from the snapshot without further browser round-trips,
+ * however many rows the cart has
+ * An empty table is only trusted once the snapshot is rendered: the last viewcart response has arrived (after any
+ * deletecart), no tracked XHR/fetch is pending and none has finished within the -Dpage.readiness.quietMs window
+ *
+ * Usage:
+ * CartSnapshot cart = CartSnapshot.waitFor("both phones listed", c -> c.contains("Nexus 6") && c.contains("Samsung galaxy s6"));
+ * assertTrue(cart.totalMatchesRows());
+ */
+public final class CartSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartSnapshot.class);
+
+    // Row id is the cart entry id passed to deleteItem('...') by the row's Delete link
+    // Rendered comes from Resource Timing, plus PageReadiness' request counter when it is installed
+    private static final String READ_CART = """
+        var quiet = arguments[0], viewcart = -1, deleted = -1, last = 0;
+        performance.getEntriesByType('resource').forEach(function (entry) {
+            if (entry.initiatorType !== 'xmlhttprequest' && entry.initiatorType !== 'fetch') { return; }
+            var path = entry.name.split('?')[0];
+            if (/[/]viewcart$/.test(path)) { viewcart = Math.max(viewcart, entry.responseEnd); }
+            if (/[/]deletecart$/.test(path)) { deleted = Math.max(deleted, entry.responseEnd); }
+            last = Math.max(last, entry.responseEnd);
+        });
+        var tracker = window.__pageReadiness;
+        var rendered = viewcart >= 0 && viewcart > deleted && (!tracker || tracker.pending === 0)
+            && performance.now() - last >= quiet;
+        var rows = Array.prototype.map.call(document.querySelectorAll('#tbodyid tr'), function (tr) {
+            var cells = tr.querySelectorAll('td');
+            var link = tr.querySelector('a');
+            var handler = link ? link.getAttribute('onclick') || '' : '';
+            var id = handler.match(/deleteItem\\('([^']*)'\\)/);
+            return {
+                id: id ? id[1] : null,
+                title: cells.length > 1 ? cells[1].innerText.trim() : '',
+                price: cells.length > 2 ? cells[2].innerText.trim() : '',
+                delete: link
+            };
+        });
+        var total = document.getElementById('totalp');
+        return {rows: rows, total: total ? total.innerText.trim() : '', rendered: rendered};
+        """;
+
+    /**
+     * One cart row; price is in whole dollars as shown in the table.
+     */
+    public record Row(String id, String title, int price, WebElement deleteLink) {
+
+        @Override
+        public String toString() {
+            return title + " ($" + price + ")";
+        }
+    }
+
+    private final List<Row> rows;
+    private final OptionalInt total;
+    private final boolean rendered;
+
+    private CartSnapshot(List<Row> rows, OptionalInt total, boolean rendered) {
+        this.rows = List.copyOf(rows);
+        this.total = total;
+        this.rendered = rendered;
+    }
+
+    /**
+     * Reads the cart as currently rendered, without waiting.
+     */
+    public static CartSnapshot read() {
+        Map<String, Object> cart = Selenide.executeJavaScript(READ_CART, Long.getLong("page.readiness.quietMs", 250));
+        List<Row> rows = new ArrayList<>();
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> rawRows = cart == null ? List.of() : (List<Map<String, Object>>) cart.get("rows");
+        for (Map<String, Object> row : rawRows) {
+            rows.add(new Row((String) row.get("id"), (String) row.get("title"),
+                parseAmount((String) row.get("price")).orElse(0), (WebElement) row.get("delete")));
+        }
+        return cart == null
+            ? new CartSnapshot(rows, OptionalInt.empty(), false)
+            : new CartSnapshot(rows, parseAmount((String) cart.get("total")), Boolean.TRUE.equals(cart.get("rendered")));
+    }
+
+    /**
+     * Re-reads the cart until {@code condition} holds or Configuration.timeout expires.
+     *
+     * @throws AssertionError with the last snapshot if the condition never held
+     */
+    public static CartSnapshot waitFor(String description, Predicate<CartSnapshot> condition) {
+        long started = System.currentTimeMillis();
+        long deadline = started + Configuration.timeout;
+        while (true) {
+            CartSnapshot snapshot = read();
+            if (condition.test(snapshot)) {
+                logger.debug("Cart {} after {} ms: {}", description, System.currentTimeMillis() - started, snapshot);
+                return snapshot;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new AssertionError("Cart should be " + description + " but was " + snapshot
+                    + " after " + (System.currentTimeMillis() - started) + " ms");
+            }
+            DomWaits.pause(deadline);
+        }
+    }
+
+    public List<Row> rows() {
+        return rows;
+    }
+
+    /**
+     * Whether the viewcart response has been rendered and the page has gone quiet, so an empty table means an empty cart.
+     */
+    public boolean isRendered() {
+        return rendered;
+    }
+
+    public boolean isEmpty() {
+        return rows.isEmpty();
+    }
+
+    public boolean contains(String title) {
+        return row(title).isPresent();
+    }
+
+    public long count(String title) {
+        return rows.stream().filter(row -> row.title().equals(title)).count();
+    }
+
+    public boolean containsPrice(int price) {
+        return rows.stream().anyMatch(row -> row.price() == price);
+    }
+
+    /**
+     * First row with the given product title.
+     */
+    public Optional<Row> row(String title) {
+        return rows.stream().filter(row -> row.title().equals(title)).findFirst();
+    }
+
+    /**
+     * Total shown under the table; empty while the cart is empty or still loading.
+     */
+    public OptionalInt total() {
+        return total;
+    }
+
+    public int sumOfPrices() {
+        return rows.stream().mapToInt(Row::price).sum();
+    }
+
+    /**
+     * Whether the displayed total equals the sum of the row prices (an empty cart with no total counts as matching).
+     */
+    public boolean totalMatchesRows() {
+        return total.orElse(0) == sumOfPrices();
+    }
+
+    @Override
+    public String toString() {
+        return rows + ", total " + (total.isPresent() ? String.valueOf(total.getAsInt()) : "(none)")
+            + (rendered ? "" : " (still loading)");
+    }
+
+    private static OptionalInt parseAmount(String text) {
+        String digits = text == null ? "" : text.replaceAll("[^0-9]", "");
+        return digits.isEmpty() ? OptionalInt.empty() : OptionalInt.of(Integer.parseInt(digits));
+    }
+}
@@ -8,50 +8,63 @@ import com.codeborne.selenide.SelenideElement;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import support.Alerts;
+import support.BatchCheck;
+import support.FormFiller;
 
 public class ContactModal {
 
     private static final Logger logger = LoggerFactory.getLogger(ContactModal.class);
 
-    private final SelenideElement contactEmailField = Selenide.$(By.id("recipient-email"));
-    private final SelenideElement contactNameField = Selenide.$(By.id("recipient-name"));
-    private final SelenideElement messageField = Selenide.$(By.id("message-text"));
-    private final SelenideElement sendMessageButton = Selenide.$(By.xpath("//button[contains(text(), 'Send message')]"));
-    private final SelenideElement closeButton = Selenide.$(By.xpath("//button[contains(text(), 'Close')] | //*[@class='close'] | //button[@data-dismiss='modal']"));
+    private static final By CONTACT_EMAIL_FIELD = By.id("recipient-email");
+    private static final By CONTACT_NAME_FIELD = By.id("recipient-name");
+    private static final By MESSAGE_FIELD = By.id("message-text");
+
+    private final SelenideElement contactEmailField = Selenide.$(CONTACT_EMAIL_FIELD);
+    private final SelenideElement contactNameField = Selenide.$(CONTACT_NAME_FIELD);
+    private final SelenideElement messageField = Selenide.$(MESSAGE_FIELD);
+    private static final By SEND_MESSAGE_BUTTON = By.xpath("//button[contains(text(), 'Send message')]");
+    private static final By CLOSE_BUTTON = By.xpath("//button[contains(text(), 'Close')] | //*[@class='close'] | //button[@data-dismiss='modal']");
+
+    private final SelenideElement sendMessageButton = Selenide.$(SEND_MESSAGE_BUTTON);
+    private final SelenideElement closeButton = Selenide.$(CLOSE_BUTTON);
     private final SelenideElement contactModalTitle = Selenide.$(By.xpath("//*[contains(text(), 'New message')] | //h4 | //h5 | //*[@class='modal-title']"));
 
     public ContactModal fillContactEmail(String email) {
         logger.info("Filling contact email field with: {}", email);
-        contactEmailField.setValue(email);
+        fill(CONTACT_EMAIL_FIELD, email);
         logger.debug("Contact email field filled successfully");
         return this;
     }
 
     public ContactModal fillContactName(String name) {
         logger.info("Filling contact name field with: {}", name);
-        contactNameField.setValue(name);
+        fill(CONTACT_NAME_FIELD, name);
         logger.debug("Contact name field filled successfully");
         return this;
     }
 
     public ContactModal fillMessage(String message) {
         logger.info("Filling message field");
-        messageField.setValue(message);
+        fill(MESSAGE_FIELD, message);
         logger.debug("Message field filled successfully");
         return this;
     }
 
     public ContactModal fillContactForm(String email, String name, String message) {
         logger.info("Filling complete contact form for: {} ({})", name, email);
-        fillContactEmail(email);
-        fillContactName(name);
-        fillMessage(message);
+        FormFiller.of("Contact form")
+            .field(CONTACT_EMAIL_FIELD, email)
+            .field(CONTACT_NAME_FIELD, name)
+            .field(MESSAGE_FIELD, message)
+            .fill();
         logger.info("Contact form filled successfully for: {}", name);
         return this;
     }
 
     public ContactModal clickSendMessage() {
         logger.info("Clicking 'Send message' button");
+        Alerts.prepare();
         sendMessageButton.click();
         logger.info("Send message button clicked successfully");
         return this;
@@ -67,9 +80,11 @@ public class ContactModal {
     public ContactModal verifyContactModalVisible() {
         logger.info("Verifying contact modal is visible");
         // Wait for modal to be visible - check for the form fields first
-        contactEmailField.shouldBe(visible);
-        contactNameField.shouldBe(visible);
-        messageField.shouldBe(visible);
+        BatchCheck.of("Contact form fields")
+            .visible(CONTACT_EMAIL_FIELD)
+            .visible(CONTACT_NAME_FIELD)
+            .visible(MESSAGE_FIELD)
+            .verify();
         logger.info("Contact form fields verified successfully");
         return this;
     }
@@ -82,11 +97,13 @@ public class ContactModal {
 
     public ContactModal verifyFormFields() {
         logger.info("BDD: Verifying contact form fields");
-        contactEmailField.shouldBe(visible);
-        contactNameField.shouldBe(visible);
-        messageField.shouldBe(visible);
-        sendMessageButton.shouldBe(visible);
-        closeButton.shouldBe(visible);
+        BatchCheck.of("Contact form")
+            .visible(CONTACT_EMAIL_FIELD)
+            .visible(CONTACT_NAME_FIELD)
+            .visible(MESSAGE_FIELD)
+            .visible(SEND_MESSAGE_BUTTON)
+            .visible(CLOSE_BUTTON)
+            .verify();
         logger.info("BDD: All contact form fields verified");
         return this;
     }
@@ -95,4 +112,8 @@ public class ContactModal {
         logger.info("BDD: Closing contact modal");
         return clickClose();
     }
-}
\ No newline at end of file
+
+    private static void fill(By field, String value) {
+        FormFiller.of(field.toString()).field(field, value).fill();
+    }
+}
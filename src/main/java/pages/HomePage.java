@@ -2,11 +2,26 @@ package pages;
 import static com.codeborne.selenide.Condition.*;
 import static com.codeborne.selenide.Selenide.*;
 
+import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.Selenide;
 import com.codeborne.selenide.SelenideElement;
+import data.Environment;
 import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import support.BatchCheck;
+import support.DomWaits;
+import support.NavigationTracker;
+import support.PageReadiness;
+import support.PageTimings;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
 
 /**
  * Page Object for DemoBlaze home page functionality
@@ -16,130 +31,201 @@ public class HomePage {
 
     private static final Logger logger = LoggerFactory.getLogger(HomePage.class);
 
-    private final SelenideElement productStoreLink = Selenide.$(By.linkText("PRODUCT STORE"));
-    private final SelenideElement homeLink = Selenide.$(By.cssSelector("li[class='nav-item active'] a[class='nav-link']"));
-    private final SelenideElement contactLink = Selenide.$(By.cssSelector("a[data-target='#exampleModal']"));
-    private final SelenideElement aboutUsLink = Selenide.$(By.cssSelector("a[data-target='#videoModal']"));
-    private final SelenideElement cartLink = Selenide.$(By.cssSelector("#cartur"));
-    private final SelenideElement loginLink = Selenide.$(By.cssSelector("#login2"));
-    private final SelenideElement signUpLink = Selenide.$(By.cssSelector("#signin2"));
-    private final SelenideElement categoriesLink = Selenide.$(By.cssSelector("#cat"));
+    // Locators shared by element fields and batch verifications
+    private static final By PRODUCT_STORE_LINK = By.linkText("PRODUCT STORE");
+    private static final By HOME_LINK = By.cssSelector("li[class='nav-item active'] a[class='nav-link']");
+    private static final By CONTACT_LINK = By.cssSelector("a[data-target='#exampleModal']");
+    private static final By ABOUT_US_LINK = By.cssSelector("a[data-target='#videoModal']");
+    private static final By CART_LINK = By.cssSelector("#cartur");
+    private static final By LOGIN_LINK = By.cssSelector("#login2");
+    private static final By SIGN_UP_LINK = By.cssSelector("#signin2");
+    private static final By CATEGORIES_LINK = By.cssSelector("#cat");
+    private static final By PHONES_CATEGORY = By.linkText("Phones");
+    private static final By LAPTOPS_CATEGORY = By.linkText("Laptops");
+    private static final By MONITORS_CATEGORY = By.linkText("Monitors");
+    private static final By COPYRIGHT_TEXT = By.xpath("//p[contains(text(), 'Copyright © Product Store')]");
+    private static final By ABOUT_US_HEADING = By.cssSelector("div[class='col-sm-4 col-lg-4 col-md-4'] b");
+    private static final By GET_IN_TOUCH_HEADING = By.cssSelector("div[class='col-sm-3 col-lg-3 col-md-3'] b");
+    private static final By CAROUSEL_PREVIOUS_BUTTON = By.cssSelector(".carousel-control-prev");
+    private static final By CAROUSEL_NEXT_BUTTON = By.cssSelector(".carousel-control-next");
+    private static final By PREVIOUS_PRODUCTS_BUTTON = By.cssSelector("#prev2");
+    private static final By NEXT_PRODUCTS_BUTTON = By.cssSelector("#next2");
+
+    private final SelenideElement homeLink = Selenide.$(HOME_LINK);
+    private final SelenideElement contactLink = Selenide.$(CONTACT_LINK);
+    private final SelenideElement cartLink = Selenide.$(CART_LINK);
 
-    private final SelenideElement phonesCategory = Selenide.$(By.linkText("Phones"));
-    private final SelenideElement laptopsCategory = Selenide.$(By.linkText("Laptops"));
-    private final SelenideElement monitorsCategory = Selenide.$(By.linkText("Monitors"));
+    private final SelenideElement previousProductsButton = Selenide.$(PREVIOUS_PRODUCTS_BUTTON);
+    private final SelenideElement nextProductsButton = Selenide.$(NEXT_PRODUCTS_BUTTON);
 
-    private final SelenideElement carouselPreviousButton = Selenide.$(By.cssSelector(".carousel-control-prev"));
-    private final SelenideElement carouselNextButton = Selenide.$(By.cssSelector(".carousel-control-next"));
+    // Reads every card of the product grid in one call
+    private static final String SNAPSHOT_PRODUCTS = """
+        return Array.prototype.map.call(document.querySelectorAll('#tbodyid .card'), function (card) {
+            var title = card.querySelector('.card-title');
+            var link = title && (title.querySelector('a') || title);
+            var price = card.querySelector('h5');
+            var description = card.querySelector('.card-text');
+            return {
+                name: title ? title.innerText.trim() : '',
+                price: price ? price.innerText.trim() : '',
+                description: description ? description.innerText.replace(/\\s+/g, ' ').trim() : '',
+                url: link && link.href ? link.href : null,
+                visible: !!link && link.getClientRects().length > 0,
+                link: link
+            };
+        });
+        """;
+
+    /**
+     * One card of the product grid as read by the last snapshot.
+     */
+    public record ProductCard(String name, String price, String description, String url, boolean visible,
+                              WebElement link) {
+    }
 
-    private final SelenideElement previousProductsButton = Selenide.$("#prev2");
-    private final SelenideElement nextProductsButton = Selenide.$("#next2");
+    // Product grid by name; rebuilt after any navigation, click or paging (see NavigationTracker)
+    private Map<String, ProductCard> productIndex = Map.of();
+    private long indexedGeneration = -1;
 
-    private final SelenideElement copyrightText = Selenide.$(By.xpath("//p[contains(text(), 'Copyright © Product Store')]"));
-    private final SelenideElement aboutUsHeading = Selenide.$(By.cssSelector("div[class='col-sm-4 col-lg-4 col-md-4'] b"));
-    private final SelenideElement getInTouchHeading = Selenide.$(By.cssSelector("div[class='col-sm-3 col-lg-3 col-md-3'] b"));
 
     public HomePage open() {
         logger.info("Opening DemoBlaze home page");
-        Selenide.open("https://www.demoblaze.com/index.html");
+        Selenide.open(Environment.homeUrl());
+        PageReadiness.await();
+        PageTimings.capture("Home");
         logger.info("Home page opened successfully");
         return this;
     }
 
     public HomePage verifyNavigationElements() {
         logger.info("Verifying navigation elements are visible");
-        productStoreLink.shouldBe(visible);
-        homeLink.shouldBe(visible).shouldHave(text("Home"));
-        contactLink.shouldBe(visible).shouldHave(text("Contact"));
-        aboutUsLink.shouldBe(visible).shouldHave(text("About us"));
-        cartLink.shouldBe(visible).shouldHave(text("Cart"));
-        loginLink.shouldBe(visible).shouldHave(text("Log in"));
-        signUpLink.shouldBe(visible).shouldHave(text("Sign up"));
+        BatchCheck.of("Navigation elements")
+            .visible(PRODUCT_STORE_LINK)
+            .visibleWithText(HOME_LINK, "Home")
+            .visibleWithText(CONTACT_LINK, "Contact")
+            .visibleWithText(ABOUT_US_LINK, "About us")
+            .visibleWithText(CART_LINK, "Cart")
+            .visibleWithText(LOGIN_LINK, "Log in")
+            .visibleWithText(SIGN_UP_LINK, "Sign up")
+            .verify();
         logger.info("All navigation elements verified successfully");
         return this;
     }
 
     public HomePage verifyCarouselElements() {
         logger.info("Verifying carousel elements are visible");
-        carouselPreviousButton.shouldBe(visible);
-        carouselNextButton.shouldBe(visible);
+        BatchCheck.of("Carousel controls")
+            .visible(CAROUSEL_PREVIOUS_BUTTON)
+            .visible(CAROUSEL_NEXT_BUTTON)
+            .verify();
         logger.info("Carousel elements verified successfully");
         return this;
     }
 
     public HomePage verifyCategoriesSection() {
         logger.info("Verifying categories section");
-        categoriesLink.shouldBe(visible).shouldHave(text("CATEGORIES"));
-        phonesCategory.shouldBe(visible).shouldHave(text("Phones"));
-        laptopsCategory.shouldBe(visible).shouldHave(text("Laptops"));
-        monitorsCategory.shouldBe(visible).shouldHave(text("Monitors"));
+        BatchCheck.of("Categories section")
+            .visibleWithText(CATEGORIES_LINK, "CATEGORIES")
+            .visibleWithText(PHONES_CATEGORY, "Phones")
+            .visibleWithText(LAPTOPS_CATEGORY, "Laptops")
+            .visibleWithText(MONITORS_CATEGORY, "Monitors")
+            .verify();
         logger.info("Categories section verified successfully");
         return this;
     }
 
     public HomePage verifyProductsNavigationButtons() {
         logger.info("Verifying product navigation buttons");
-        previousProductsButton.shouldBe(visible);
-        nextProductsButton.shouldBe(visible);
+        BatchCheck.of("Product navigation buttons")
+            .visible(PREVIOUS_PRODUCTS_BUTTON)
+            .visible(NEXT_PRODUCTS_BUTTON)
+            .verify();
         logger.info("Product navigation buttons verified successfully");
         return this;
     }
 
     public HomePage verifyFooterElements() {
         logger.info("Verifying footer elements");
-        copyrightText.shouldBe(visible).shouldHave(text("Copyright © Product Store 2017"));
-        aboutUsHeading.shouldBe(visible).shouldHave(text("About Us"));
-        getInTouchHeading.shouldBe(visible).shouldHave(text("Get in Touch"));
+        BatchCheck.of("Footer elements")
+            .visibleWithText(COPYRIGHT_TEXT, "Copyright © Product Store 2017")
+            .visibleWithText(ABOUT_US_HEADING, "About Us")
+            .visibleWithText(GET_IN_TOUCH_HEADING, "Get in Touch")
+            .verify();
         logger.info("Footer elements verified successfully");
         return this;
     }
 
     public SelenideElement getProductLink(String productName) {
-        logger.debug("Getting first product link for: {}", productName);
-        return Selenide.$$(By.cssSelector(".card-title")).first();
+        logger.debug("Getting product link for: {}", productName);
+        return Selenide.$(getProduct(productName).link());
     }
 
     public SelenideElement getProductLink(String productName, int index) {
         logger.debug("Getting product link at index {} for: {}", index, productName);
-        return Selenide.$$(By.cssSelector(".card-title")).get(index);
+        List<ProductCard> cards = new ArrayList<>(productIndex().values());
+        if (index < 0 || index >= cards.size()) {
+            throw new AssertionError("No product at index " + index + " (" + cards.size() + " on the page)");
+        }
+        return Selenide.$(cards.get(index).link());
     }
 
-    public SelenideElement getProductPrice(String price) {
-        logger.debug("Getting product price element for: {}", price);
-        return Selenide.$(By.xpath("//h5[text()='" + price + "']"));
-    }
-
-    public SelenideElement getProductDescription(String description) {
-        logger.debug("Getting product description element containing: {}", description);
-        return Selenide.$(By.xpath("//p[contains(text(), '" + description + "')]"));
+    /**
+     * Product card by its displayed name, from the current page of the product grid.
+     */
+    public ProductCard getProduct(String productName) {
+        return awaitProduct(productName, card -> true, "be listed");
     }
 
     public HomePage clickProduct(String productName) {
-        logger.info("Clicking on first product: {}", productName);
+        logger.info("Clicking on product: {}", productName);
         getProductLink(productName).click();
-        logger.info("Successfully clicked on first product: {}", productName);
+        PageReadiness.await();
+        PageTimings.capture("Product details");
+        logger.info("Successfully clicked on product: {}", productName);
         return this;
     }
 
     public HomePage clickProduct(String productName, int index) {
         logger.info("Clicking on product at index {}: {}", index, productName);
         getProductLink(productName, index).click();
+        PageReadiness.await();
+        PageTimings.capture("Product details");
         logger.info("Successfully clicked on product at index {}: {}", index, productName);
         return this;
     }
 
     public HomePage verifyProductDetails(String productName, String price, String description) {
         logger.info("Verifying product details for: {} with price: {}", productName, price);
-        getProductLink(productName).shouldBe(visible);
-        getProductPrice(price).shouldBe(visible);
-        getProductDescription(description).shouldBe(visible);
+        awaitProduct(productName, card -> card.visible() && card.price().equals(price)
+                && card.description().contains(description),
+            "be visible with price '" + price + "' and description containing '" + description + "'");
         logger.info("Product details verified successfully for: {}", productName);
         return this;
     }
 
+    public HomePage clickNextProducts() {
+        logger.info("Showing next page of products");
+        Map<String, ProductCard> before = productIndex();
+        nextProductsButton.click();
+        PageReadiness.await();
+        awaitGridReplaced(before);
+        return this;
+    }
+
+    public HomePage clickPreviousProducts() {
+        logger.info("Showing previous page of products");
+        Map<String, ProductCard> before = productIndex();
+        previousProductsButton.click();
+        PageReadiness.await();
+        awaitGridReplaced(before);
+        return this;
+    }
+
     public CartPage clickCartLink() {
         logger.info("Navigating to cart page");
         cartLink.click();
+        PageReadiness.await();
+        PageTimings.capture("Cart");
         logger.info("Successfully navigated to cart page");
         return new CartPage();
     }
@@ -147,6 +233,7 @@ public class HomePage {
     public HomePage clickHomeLink() {
         logger.info("Clicking home link");
         homeLink.click();
+        PageReadiness.await();
         logger.info("Successfully clicked home link");
         return this;
     }
@@ -159,12 +246,19 @@ public class HomePage {
 
     public HomePage verifyProductDetails(String productName, String price) {
         logger.info("BDD: Verifying product details for: {} with price: {}", productName, price);
-        getProductLink(productName).shouldBe(visible);
-        getProductPrice(price).shouldBe(visible);
+        awaitProduct(productName, card -> card.visible() && card.price().equals(price),
+            "be visible with price '" + price + "'");
         logger.info("BDD: Product details verified successfully for: {}", productName);
         return this;
     }
 
+    public HomePage verifyProductListings() {
+        logger.info("BDD: Verifying product listings");
+        productIndex();
+        logger.info("BDD: {} products listed", productIndex.size());
+        return this;
+    }
+
     public HomePage clickOnFirstProduct(String productName) {
         logger.info("BDD: Clicking on first product: {}", productName);
         return clickProduct(productName);
@@ -181,4 +275,88 @@ public class HomePage {
         logger.info("BDD: Navigating to cart");
         return clickCartLink();
     }
-}
\ No newline at end of file
+
+    // Waits until the named product matches, re-reading the grid while it is still loading or being replaced
+    private ProductCard awaitProduct(String productName, Predicate<ProductCard> matches, String expectation) {
+        long deadline = System.currentTimeMillis() + Configuration.timeout;
+        while (true) {
+            ProductCard card = productIndex().get(productName);
+            if (card != null && matches.test(card)) {
+                return card;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new AssertionError("Product '" + productName + "' should " + expectation + " but was "
+                    + (card == null ? "not found among " + productIndex.keySet() : card));
+            }
+            DomWaits.pause(deadline);
+            indexedGeneration = -1;
+        }
+    }
+
+    // Current page of the product grid, read once per page and waited for while the grid is still empty
+    private Map<String, ProductCard> productIndex() {
+        if (indexedGeneration == NavigationTracker.generation() && !productIndex.isEmpty()) {
+            return productIndex;
+        }
+        long deadline = System.currentTimeMillis() + Configuration.timeout;
+        long generation = NavigationTracker.generation();
+        Map<String, ProductCard> index = snapshotProducts();
+        while (index.isEmpty() && System.currentTimeMillis() < deadline) {
+            DomWaits.pause(deadline);
+            index = snapshotProducts();
+        }
+        if (index.isEmpty()) {
+            throw new AssertionError("Product grid is empty after " + Configuration.timeout + " ms");
+        }
+        productIndex = index;
+        indexedGeneration = generation;
+        logger.debug("Indexed {} products", index.size());
+        return index;
+    }
+
+    // Paging swaps the grid in place after the click returns, so wait for new cards before indexing them
+    private void awaitGridReplaced(Map<String, ProductCard> before) {
+        long deadline = System.currentTimeMillis() + Configuration.timeout;
+        long generation = NavigationTracker.generation();
+        Map<String, ProductCard> index = snapshotProducts();
+        while ((index.isEmpty() || sameCards(before, index)) && System.currentTimeMillis() < deadline) {
+            DomWaits.pause(deadline);
+            index = snapshotProducts();
+        }
+        if (index.isEmpty() || sameCards(before, index)) {
+            // e.g. "Previous" on the first page; index the grid afresh on next use
+            logger.warn("Product grid did not change within {} ms", Configuration.timeout);
+            indexedGeneration = -1;
+            return;
+        }
+        productIndex = index;
+        indexedGeneration = generation;
+        logger.debug("Indexed {} products after paging", index.size());
+    }
+
+    private static boolean sameCards(Map<String, ProductCard> before, Map<String, ProductCard> after) {
+        if (!List.copyOf(before.keySet()).equals(List.copyOf(after.keySet()))) {
+            return false;
+        }
+        for (Map.Entry<String, ProductCard> card : after.entrySet()) {
+            if (!Objects.equals(card.getValue().link(), before.get(card.getKey()).link())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Map<String, ProductCard> snapshotProducts() {
+        List<Map<String, Object>> cards = Selenide.executeJavaScript(SNAPSHOT_PRODUCTS);
+        Map<String, ProductCard> index = new LinkedHashMap<>();
+        if (cards != null) {
+            for (Map<String, Object> card : cards) {
+                String name = (String) card.get("name");
+                index.putIfAbsent(name, new ProductCard(name, (String) card.get("price"),
+                    (String) card.get("description"), (String) card.get("url"),
+                    Boolean.TRUE.equals(card.get("visible")), (WebElement) card.get("link")));
+            }
+        }
+        return index;
+    }
+}
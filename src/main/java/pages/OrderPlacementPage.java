@@ -8,58 +8,65 @@ import com.codeborne.selenide.SelenideElement;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import support.Alerts;
+import support.BatchCheck;
+import support.FormFiller;
 
 public class OrderPlacementPage {
 
     private static final Logger logger = LoggerFactory.getLogger(OrderPlacementPage.class);
 
-    private final SelenideElement nameField = Selenide.$(By.id("name"));
-    private final SelenideElement countryField = Selenide.$(By.id("country"));
-    private final SelenideElement cityField = Selenide.$(By.id("city"));
-    private final SelenideElement creditCardField = Selenide.$(By.id("card"));
-    private final SelenideElement monthField = Selenide.$(By.id("month"));
-    private final SelenideElement yearField = Selenide.$(By.id("year"));
-    private final SelenideElement purchaseButton = Selenide.$(By.xpath("//button[text()='Purchase']"));
-    private final SelenideElement closeButton = Selenide.$(By.xpath("//div[@id='orderModal']//button[@type='button'][normalize-space()='Close']"));
+    // Locators shared by element fields, form filling and batch verifications
+    private static final By NAME_FIELD = By.id("name");
+    private static final By COUNTRY_FIELD = By.id("country");
+    private static final By CITY_FIELD = By.id("city");
+    private static final By CREDIT_CARD_FIELD = By.id("card");
+    private static final By MONTH_FIELD = By.id("month");
+    private static final By YEAR_FIELD = By.id("year");
+    private static final By PURCHASE_BUTTON = By.xpath("//button[text()='Purchase']");
+    private static final By CLOSE_BUTTON = By.xpath("//div[@id='orderModal']//button[@type='button'][normalize-space()='Close']");
+
+    private final SelenideElement purchaseButton = Selenide.$(PURCHASE_BUTTON);
+    private final SelenideElement closeButton = Selenide.$(CLOSE_BUTTON);
 
     public OrderPlacementPage fillName(String name) {
         logger.info("Filling name field with: {}", name);
-        nameField.setValue(name);
+        fill(NAME_FIELD, name);
         logger.debug("Name field filled successfully");
         return this;
     }
 
     public OrderPlacementPage fillCountry(String country) {
         logger.info("Filling country field with: {}", country);
-        countryField.setValue(country);
+        fill(COUNTRY_FIELD, country);
         logger.debug("Country field filled successfully");
         return this;
     }
 
     public OrderPlacementPage fillCity(String city) {
         logger.info("Filling city field with: {}", city);
-        cityField.setValue(city);
+        fill(CITY_FIELD, city);
         logger.debug("City field filled successfully");
         return this;
     }
 
     public OrderPlacementPage fillCreditCard(String creditCard) {
         logger.info("Filling credit card field");
-        creditCardField.setValue(creditCard);
+        fill(CREDIT_CARD_FIELD, creditCard);
         logger.debug("Credit card field filled successfully");
         return this;
     }
 
     public OrderPlacementPage fillMonth(String month) {
         logger.info("Filling month field with: {}", month);
-        monthField.setValue(month);
+        fill(MONTH_FIELD, month);
         logger.debug("Month field filled successfully");
         return this;
     }
 
     public OrderPlacementPage fillYear(String year) {
         logger.info("Filling year field with: {}", year);
-        yearField.setValue(year);
+        fill(YEAR_FIELD, year);
         logger.debug("Year field filled successfully");
         return this;
     }
@@ -67,18 +74,21 @@ public class OrderPlacementPage {
     public OrderPlacementPage fillOrderDetails(String name, String country, String city,
                                                String creditCard, String month, String year) {
         logger.info("Filling complete order details for customer: {}", name);
-        fillName(name);
-        fillCountry(country);
-        fillCity(city);
-        fillCreditCard(creditCard);
-        fillMonth(month);
-        fillYear(year);
+        FormFiller.of("Order form")
+            .field(NAME_FIELD, name)
+            .field(COUNTRY_FIELD, country)
+            .field(CITY_FIELD, city)
+            .field(CREDIT_CARD_FIELD, creditCard)
+            .field(MONTH_FIELD, month)
+            .field(YEAR_FIELD, year)
+            .fill();
         logger.info("Order details filled successfully for customer: {}", name);
         return this;
     }
 
     public OrderPlacementPage clickPurchase() {
         logger.info("Clicking 'Purchase' button to complete order");
+        Alerts.prepare();
         purchaseButton.click();
         logger.info("Purchase button clicked successfully");
         return this;
@@ -95,15 +105,21 @@ public class OrderPlacementPage {
 
     public OrderPlacementPage verifyOrderFormVisible() {
         logger.info("Verifying order placement form is visible");
-        nameField.shouldBe(visible);
-        countryField.shouldBe(visible);
-        cityField.shouldBe(visible);
-        creditCardField.shouldBe(visible);
-        monthField.shouldBe(visible);
-        yearField.shouldBe(visible);
-        purchaseButton.shouldBe(visible);
-        closeButton.shouldBe(visible);
+        BatchCheck.of("Order form")
+            .visible(NAME_FIELD)
+            .visible(COUNTRY_FIELD)
+            .visible(CITY_FIELD)
+            .visible(CREDIT_CARD_FIELD)
+            .visible(MONTH_FIELD)
+            .visible(YEAR_FIELD)
+            .visible(PURCHASE_BUTTON)
+            .visible(CLOSE_BUTTON)
+            .verify();
         logger.info("Order placement form verified successfully");
         return this;
     }
-}
\ No newline at end of file
+
+    private static void fill(By field, String value) {
+        FormFiller.of(field.toString()).field(field, value).fill();
+    }
+}
@@ -5,54 +5,79 @@ import static com.codeborne.selenide.Selenide.*;
 
 import com.codeborne.selenide.Selenide;
 import com.codeborne.selenide.SelenideElement;
+import data.TestData;
 import org.openqa.selenium.By;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import support.Alerts;
+import support.BatchCheck;
+import support.PageReadiness;
 
 public class ProductDetailsPage {
 
     private static final Logger logger = LoggerFactory.getLogger(ProductDetailsPage.class);
 
-    private final SelenideElement productImage = Selenide.$("#imgp img");
-    private final SelenideElement addToCartButton = Selenide.$(By.linkText("Add to cart"));
+    private static final By PRODUCT_IMAGE = By.cssSelector("#imgp img");
+    private static final By PRODUCT_NAME = By.cssSelector(".name");
+    private static final By PRICE_CONTAINER = By.cssSelector(".price-container");
+    private static final By ADD_TO_CART_BUTTON = By.linkText("Add to cart");
+
+    private final SelenideElement addToCartButton = Selenide.$(ADD_TO_CART_BUTTON);
     private final SelenideElement homeLink = Selenide.$(By.cssSelector("li[class='nav-item active'] a[class='nav-link']"));
 
     public SelenideElement getProductHeading(String productName) {
         logger.debug("Getting product heading element for: {}", productName);
-        return Selenide.$(By.cssSelector(".name"));
+        return Selenide.$(PRODUCT_NAME);
     }
 
     public SelenideElement getProductPriceWithTax(String priceWithTax) {
         logger.debug("Getting product price with tax element for: {}", priceWithTax);
-        return Selenide.$(By.cssSelector(".price-container"));
+        return Selenide.$(PRICE_CONTAINER);
     }
 
     public ProductDetailsPage verifyProductImage() {
         logger.info("Verifying product image is visible");
-        productImage.shouldBe(visible);
+        BatchCheck.of("Product image").visible(PRODUCT_IMAGE).verify();
         logger.info("Product image verified successfully");
         return this;
     }
 
     public ProductDetailsPage verifyProductDetails(String productName, String priceWithTax) {
         logger.info("Verifying product details for: {} with price: {}", productName, priceWithTax);
-        getProductHeading(productName).shouldBe(visible);
-        getProductPriceWithTax(priceWithTax).shouldBe(visible);
-        addToCartButton.shouldBe(visible);
+        BatchCheck.of("Product details")
+            .visible(PRODUCT_NAME)
+            .visible(PRICE_CONTAINER)
+            .visible(ADD_TO_CART_BUTTON)
+            .verify();
         logger.info("Product details verified successfully for: {}", productName);
         return this;
     }
 
     public ProductDetailsPage clickAddToCart() {
         logger.info("Clicking 'Add to cart' button");
+        Alerts.prepare();
         addToCartButton.click();
         logger.info("Successfully clicked 'Add to cart' button");
         return this;
     }
 
+    /**
+     * Waits for the "Product added" alert raised by {@link #clickAddToCart()}, native or captured in-page.
+     */
+    public ProductDetailsPage confirmProductAdded() {
+        logger.info("Waiting for 'Product added' confirmation");
+        String message = Alerts.accept().text();
+        if (!TestData.AlertMessages.PRODUCT_ADDED.equals(message)) {
+            throw new AssertionError("Expected '" + TestData.AlertMessages.PRODUCT_ADDED + "' alert but was: " + message);
+        }
+        logger.info("Product added confirmation received");
+        return this;
+    }
+
     public HomePage clickHome() {
         logger.info("Navigating back to home page");
         homeLink.click();
+        PageReadiness.await();
         logger.info("Successfully navigated to home page");
         return new HomePage();
     }
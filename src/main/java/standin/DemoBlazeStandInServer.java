@@ -0,0 +1,260 @@
+package standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import data.Environment;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-JVM stand-in for www.demoblaze.com and api.demoblaze.com
+ * Serves the storefront pages and the JSON API from a single local port so suites can run without the public site
+ *
+ * Usage:
+ * mvn test -Ddemoblaze.target=standin
+ * mvn test -Ddemoblaze.target=standin -Ddemoblaze.standin.port=8089
+ */
+public class DemoBlazeStandInServer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DemoBlazeStandInServer.class);
+
+    public static final String PORT_PROPERTY = "demoblaze.standin.port";
+    public static final String HOST_PROPERTY = "demoblaze.standin.host";
+
+    private static final int PAGE_SIZE = 9;
+    private static final Json JSON = new Json();
+
+    private static DemoBlazeStandInServer shared;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final String host;
+
+    // cookie -> (cart item id -> product id), insertion ordered per cart
+    private final Map<String, Map<String, Integer>> carts = new ConcurrentHashMap<>();
+    private final Map<String, String> cartItemOwners = new ConcurrentHashMap<>();
+
+    public DemoBlazeStandInServer(String host, int port) throws IOException {
+        this.host = host;
+        this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * Starts the shared stand-in once per JVM when -Ddemoblaze.target=standin is set
+     * and points {@link Environment} at it. Safe to call from every test setup.
+     */
+    public static synchronized Optional<DemoBlazeStandInServer> startIfRequested() {
+        if (!Environment.isStandInRequested()) {
+            return Optional.empty();
+        }
+        if (shared == null) {
+            try {
+                String host = System.getProperty(HOST_PROPERTY, "localhost");
+                int port = Integer.parseInt(System.getProperty(PORT_PROPERTY, "0"));
+                DemoBlazeStandInServer server = new DemoBlazeStandInServer(host, port);
+                server.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "standin-shutdown"));
+                Environment.pointAt(server.baseUrl(), server.baseUrl());
+                shared = server;
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not start DemoBlaze stand-in server", e);
+            }
+        }
+        return Optional.of(shared);
+    }
+
+    public void start() {
+        server.start();
+        logger.info("DemoBlaze stand-in server listening on {}", baseUrl());
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+        logger.info("DemoBlaze stand-in server stopped");
+    }
+
+    public String baseUrl() {
+        return "http://" + host + ":" + server.getAddress().getPort() + "/";
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getResponseHeaders().add("Access-Control-Allow-Origin", "*");
+            exchange.getResponseHeaders().add("Access-Control-Allow-Headers", "Content-Type");
+            if ("OPTIONS".equals(exchange.getRequestMethod())) {
+                send(exchange, 204, null, new byte[0]);
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            switch (path) {
+                case "/", "/index.html" -> sendResource(exchange, "index.html", "text/html; charset=utf-8");
+                case "/prod.html" -> sendResource(exchange, "prod.html", "text/html; charset=utf-8");
+                case "/cart.html" -> sendResource(exchange, "cart.html", "text/html; charset=utf-8");
+                case "/standin.js" -> sendResource(exchange, "standin.js", "application/javascript; charset=utf-8");
+                case "/standin.css" -> sendResource(exchange, "standin.css", "text/css; charset=utf-8");
+                case "/config.json" -> sendJson(exchange, Map.of("API_URL", trimSlash(baseUrl()), "HLS_URL", trimSlash(baseUrl())));
+                case "/entries" -> sendJson(exchange, page(StandInCatalog.products().stream().limit(PAGE_SIZE).toList()));
+                case "/pagination" -> sendJson(exchange, pagination(readBody(exchange)));
+                case "/bycat" -> sendJson(exchange, byCategory(readBody(exchange)));
+                case "/view" -> view(exchange, readBody(exchange));
+                case "/addtocart" -> sendJson(exchange, addToCart(readBody(exchange)));
+                case "/viewcart" -> sendJson(exchange, viewCart(readBody(exchange)));
+                case "/deleteitem" -> sendJson(exchange, deleteItem(readBody(exchange)));
+                case "/deletecart" -> sendJson(exchange, deleteCart(readBody(exchange)));
+                default -> {
+                    if (path.startsWith("/imgs/")) {
+                        sendResource(exchange, "placeholder.svg", "image/svg+xml");
+                    } else {
+                        send(exchange, 404, "text/plain", ("Not found: " + path).getBytes(StandardCharsets.UTF_8));
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            logger.error("Stand-in failed to handle {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+            send(exchange, 500, "text/plain", String.valueOf(e.getMessage()).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private Map<String, Object> pagination(Map<String, Object> body) {
+        int after = Integer.parseInt(String.valueOf(body.getOrDefault("id", "0")));
+        return page(StandInCatalog.products().stream()
+            .filter(product -> product.id() > after)
+            .limit(PAGE_SIZE)
+            .toList());
+    }
+
+    private Map<String, Object> byCategory(Map<String, Object> body) {
+        String category = String.valueOf(body.get("cat"));
+        return page(StandInCatalog.products().stream()
+            .filter(product -> product.cat().equals(category))
+            .toList());
+    }
+
+    private void view(HttpExchange exchange, Map<String, Object> body) throws IOException {
+        int id = Integer.parseInt(String.valueOf(body.get("id")));
+        Optional<StandInCatalog.Product> product = StandInCatalog.byId(id);
+        if (product.isPresent()) {
+            sendJson(exchange, product.get().toJson());
+        } else {
+            send(exchange, 404, "application/json", "{}".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private Map<String, Object> addToCart(Map<String, Object> body) {
+        String cookie = String.valueOf(body.get("cookie"));
+        String itemId = String.valueOf(body.get("id"));
+        int productId = Integer.parseInt(String.valueOf(body.get("prod_id")));
+        carts.computeIfAbsent(cookie, key -> Collections.synchronizedMap(new LinkedHashMap<>())).put(itemId, productId);
+        cartItemOwners.put(itemId, cookie);
+        return Map.of();
+    }
+
+    private Map<String, Object> viewCart(Map<String, Object> body) {
+        String cookie = String.valueOf(body.get("cookie"));
+        Map<String, Integer> cart = carts.getOrDefault(cookie, Map.of());
+        List<Map<String, Object>> items = new ArrayList<>();
+        synchronized (cart) {
+            cart.forEach((itemId, productId) -> items.add(Map.of("cookie", cookie, "id", itemId, "prod_id", productId)));
+        }
+        return Map.of("Items", items);
+    }
+
+    private Map<String, Object> deleteItem(Map<String, Object> body) {
+        String itemId = String.valueOf(body.get("id"));
+        String cookie = cartItemOwners.remove(itemId);
+        if (cookie != null) {
+            carts.getOrDefault(cookie, new LinkedHashMap<>()).remove(itemId);
+        }
+        return Map.of();
+    }
+
+    private Map<String, Object> deleteCart(Map<String, Object> body) {
+        Map<String, Integer> cart = carts.remove(String.valueOf(body.get("cookie")));
+        if (cart != null) {
+            cart.keySet().forEach(cartItemOwners::remove);
+        }
+        return Map.of();
+    }
+
+    private static Map<String, Object> page(List<StandInCatalog.Product> products) {
+        Map<String, Object> page = new LinkedHashMap<>();
+        page.put("Items", products.stream().map(StandInCatalog.Product::toJson).toList());
+        if (!products.isEmpty()) {
+            page.put("LastEvaluatedKey", Map.of("id", String.valueOf(products.get(products.size() - 1).id())));
+        }
+        return page;
+    }
+
+    private static Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        if (body.isBlank()) {
+            return Map.of();
+        }
+        return JSON.toType(body, Json.MAP_TYPE);
+    }
+
+    private static void sendJson(HttpExchange exchange, Object payload) throws IOException {
+        send(exchange, 200, "application/json", JSON.toJson(payload).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void sendResource(HttpExchange exchange, String name, String contentType) throws IOException {
+        try (InputStream resource = DemoBlazeStandInServer.class.getResourceAsStream("/standin/" + name)) {
+            if (resource == null) {
+                send(exchange, 404, "text/plain", ("Missing stand-in resource: " + name).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 200, contentType, resource.readAllBytes());
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        if (contentType != null) {
+            exchange.getResponseHeaders().set("Content-Type", contentType);
+        }
+        exchange.getResponseHeaders().set("Cache-Control", "no-store");
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    private static String trimSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+
+    /**
+     * Runs the stand-in on its own, e.g. for manual exploration or pointing JMeter at it.
+     */
+    public static void main(String[] args) throws IOException {
+        String host = System.getProperty(HOST_PROPERTY, "localhost");
+        int port = Integer.parseInt(System.getProperty(PORT_PROPERTY, "8089"));
+        DemoBlazeStandInServer server = new DemoBlazeStandInServer(host, port);
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop, "standin-shutdown"));
+        logger.info("Open {} in a browser; press Ctrl+C to stop", URI.create(server.baseUrl()).resolve("index.html"));
+    }
+}
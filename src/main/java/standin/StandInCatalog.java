@@ -0,0 +1,71 @@
+package standin;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Product catalog served by the DemoBlaze stand-in
+ * Mirrors the ids, titles, prices and categories of the public store so existing test data stays valid
+ */
+public final class StandInCatalog {
+
+    public record Product(int id, String title, int price, String cat, String img, String desc) {
+
+        public Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("cat", cat);
+            json.put("desc", desc);
+            json.put("id", id);
+            json.put("img", img);
+            json.put("price", price);
+            json.put("title", title);
+            return json;
+        }
+    }
+
+    private static final List<Product> PRODUCTS = List.of(
+        new Product(1, "Samsung galaxy s6", 360, "phone", "imgs/galaxy_s6.jpg",
+            "The Samsung Galaxy S6 is powered by 1.5GHz octa-core Samsung Exynos 7420 processor and it comes with 3GB of RAM. The phone packs 32GB of internal storage cannot be expanded. "),
+        new Product(2, "Nokia lumia 1520", 820, "phone", "imgs/Lumia_1520.jpg",
+            "The Nokia Lumia 1520 is powered by 2.2GHz quad-core Qualcomm Snapdragon 800 processor and it comes with 2GB of RAM. "),
+        new Product(3, "Nexus 6", 650, "phone", "imgs/Nexus_6.jpg",
+            "The Motorola Google Nexus 6 is powered by 2.7GHz quad-core Qualcomm Snapdragon 805 processor and it comes with 3GB of RAM."),
+        new Product(4, "Samsung galaxy s7", 800, "phone", "imgs/galaxy_s7.jpg",
+            "The Samsung Galaxy S7 is powered by 1.6GHz octa-core it comes with 4GB of RAM . The phone packs 32GB of internal storage that can be expanded up to 200GB via a microSD card."),
+        new Product(5, "Iphone 6 32gb", 790, "phone", "imgs/iphone_6.jpg",
+            "It comes with 1GB of RAM. The phone packs 16GB of internal storage cannot be expanded. As far as the cameras are concerned, the Apple iPhone 6 packs a 8-megapixel primary camera on the rear and a 1.2-megapixel front shooter for selfies."),
+        new Product(6, "Sony xperia z5", 320, "phone", "imgs/xperia_z5.jpg",
+            "Sony Xperia Z5 Dual smartphone was launched in September 2015. The phone comes with a 5.20-inch touchscreen display with a resolution of 1080 pixels by 1920 pixels at a PPI of 424 pixels per inch."),
+        new Product(7, "HTC One M9", 700, "phone", "imgs/HTC_M9.jpg",
+            "The HTC One M9 is powered by 1.5GHz octa-core Qualcomm Snapdragon 810 processor and it comes with 3GB of RAM. The phone packs 32GB of internal storage that can be expanded up to 128GB via a microSD card. "),
+        new Product(8, "Sony vaio i5", 790, "notebook", "imgs/sony_vaio_5.jpg",
+            "Sony is so confident that the VAIO S is a superior ultraportable laptop that the company proudly compares the notebook to Apple's 13-inch MacBook Pro."),
+        new Product(9, "Sony vaio i7", 790, "notebook", "imgs/sony_vaio_5.jpg",
+            "REVIEW Sony is so confident that the VAIO S is a superior ultraportable laptop that the company proudly compares the notebook to Apple's 13-inch MacBook Pro."),
+        new Product(10, "Apple monitor 24", 400, "monitor", "imgs/apple_cinema.jpg",
+            "LED Cinema Display features a 27-inch glossy LED-backlit TFT active-matrix LCD display with IPS technology and an optimum resolution of 2560x1440."),
+        new Product(11, "MacBook air", 700, "notebook", "imgs/macbook_air.jpg",
+            "1.6GHz dual-core Intel Core i5 (Turbo Boost up to 2.7GHz) with 3MB shared L3 cache Configurable to 2.2GHz dual-core Intel Core i7."),
+        new Product(12, "Dell i7 8gb", 700, "notebook", "imgs/xps13.jpg",
+            "6th Generation Intel Core i7-6500U Dual-Core Processor 2.5 GHz (max boost speed up to 3.1GHz) 4MB L3 Cache."),
+        new Product(13, "2017 Dell 15.6 Inch", 700, "notebook", "imgs/dell.jpg",
+            "7th Gen Intel Core i7-7500U mobile processor 2.70 GHz with Turbo Boost Technology up to 3.50 GHz, Intel HD Graphics 620."),
+        new Product(14, "ASUS Full HD", 230, "monitor", "imgs/asusm.jpg",
+            "ASUS VS247H-P 23.6- Inch Full HD"),
+        new Product(15, "MacBook Pro", 1100, "notebook", "imgs/macbook_pro.jpg",
+            "Apple has introduced three new versions of its MacBook Pro line, including a 13-inch and 15-inch model with the Touch Bar.")
+    );
+
+    private StandInCatalog() {
+    }
+
+    public static List<Product> products() {
+        return PRODUCTS;
+    }
+
+    public static Optional<Product> byId(int id) {
+        return PRODUCTS.stream().filter(product -> product.id() == id).findFirst();
+    }
+}
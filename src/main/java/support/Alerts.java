@@ -0,0 +1,183 @@
+package support;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.WebDriverRunner;
+import data.TestData;
+import org.openqa.selenium.Alert;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.UnhandledAlertException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Shared handling for the JavaScript alerts DemoBlaze raises ("Product added", contact and order messages)
+ * Polls for the alert with a short, growing interval instead of sleeping a fixed second,
+ * switches to it once, then reads its text and accepts it
+ *
+ * With -Dalerts.capture=true window.alert and window.confirm are replaced in the page by a queue,
+ * so the page never blocks and reading a message is a single script call.
+ * Page objects call {@link #prepare()} before actions that raise alerts.
+ *
+ * Usage:
+ * String text = Alerts.accept().text();
+ * Alerts.acceptIfPresent(Duration.ofMillis(500)).ifPresent(alert -> logger.info(alert.text()));
+ */
+public final class Alerts {
+
+    private static final Logger logger = LoggerFactory.getLogger(Alerts.class);
+
+    public static final String CAPTURE_PROPERTY = "alerts.capture";
+    public static final String CAPTURE_SCRIPT = "alert-capture";
+
+    private static final long FIRST_POLL_MS = 25;
+    private static final long MAX_POLL_MS = 200;
+
+    private static final String CAPTURE_SOURCE = """
+        (function () {
+            if (window.__capturedAlerts) { return; }
+            var queue = window.__capturedAlerts = [];
+            function capture(message) {
+                queue.push(String(message));
+                window.dispatchEvent(new Event('captured-alert'));
+            }
+            window.alert = function (message) { capture(message); };
+            window.confirm = function (message) { capture(message); return true; };
+        })();
+        """;
+
+    // Resolves with the oldest captured message, null on timeout, or 'not-installed' when the page has no queue
+    private static final String AWAIT_CAPTURED = """
+        var done = arguments[arguments.length - 1];
+        var queue = window.__capturedAlerts;
+        if (!queue) { done('not-installed'); return; }
+        if (queue.length) { done({text: queue.shift()}); return; }
+        var timer = setTimeout(function () {
+            window.removeEventListener('captured-alert', onAlert);
+            done(null);
+        }, arguments[0]);
+        function onAlert() {
+            clearTimeout(timer);
+            window.removeEventListener('captured-alert', onAlert);
+            done({text: queue.shift()});
+        }
+        window.addEventListener('captured-alert', onAlert);
+        """;
+
+    private Alerts() {
+    }
+
+    /**
+     * Text of an accepted alert and how long it took to appear.
+     */
+    public record AcceptedAlert(String text, Duration waited) {
+    }
+
+    public static boolean isCaptureEnabled() {
+        return Boolean.parseBoolean(System.getProperty(CAPTURE_PROPERTY, "false"));
+    }
+
+    /**
+     * Registers the capture script so new browsers preload it on every page. Called once from BrowserSettings.
+     */
+    public static void registerCaptureScript() {
+        if (isCaptureEnabled()) {
+            PageScripts.register(CAPTURE_SCRIPT, CAPTURE_SOURCE);
+        }
+    }
+
+    /**
+     * Makes sure the current page captures alerts before an alert-raising action; no-op unless capture mode is on.
+     * Needed on browsers without DevTools preload support and on pages loaded before the script was registered.
+     */
+    public static void prepare() {
+        if (isCaptureEnabled()) {
+            registerCaptureScript();
+            PageScripts.ensureInPage(CAPTURE_SCRIPT);
+        }
+    }
+
+    /**
+     * Waits up to the default alert timeout, then reads and accepts the alert.
+     *
+     * @throws NoAlertPresentException if no alert appeared in time
+     */
+    public static AcceptedAlert accept() {
+        return accept(Duration.ofMillis(TestData.Timeouts.ALERT_TIMEOUT_MS));
+    }
+
+    public static AcceptedAlert accept(Duration timeout) {
+        return acceptIfPresent(timeout).orElseThrow(() ->
+            new NoAlertPresentException("No alert appeared within " + timeout.toMillis() + " ms"));
+    }
+
+    /**
+     * Same as {@link #accept(Duration)} but returns empty when no alert shows up, for flows where the alert is optional.
+     */
+    public static Optional<AcceptedAlert> acceptIfPresent(Duration timeout) {
+        long started = System.nanoTime();
+        if (isCaptureEnabled()) {
+            try {
+                Object result = Selenide.executeAsyncJavaScript(AWAIT_CAPTURED, timeout.toMillis());
+                if (!"not-installed".equals(result)) {
+                    return captured(result, started);
+                }
+                logger.debug("Alert capture not installed in this page, waiting for a native alert");
+            } catch (UnhandledAlertException e) {
+                // A native alert opened before the queue was installed; the driver may already have closed it
+                if (e.getAlertText() != null) {
+                    return captured(Map.of("text", e.getAlertText()), started);
+                }
+                logger.debug("Native alert is open in capture mode, accepting it through WebDriver");
+            }
+        }
+        return pollNativeAlert(timeout, started);
+    }
+
+    private static Optional<AcceptedAlert> captured(Object result, long started) {
+        if (!(result instanceof Map<?, ?> message)) {
+            logger.debug("No alert was captured in time");
+            return Optional.empty();
+        }
+        Duration waited = Duration.ofNanos(System.nanoTime() - started);
+        String text = String.valueOf(message.get("text"));
+        logger.info("Captured alert '{}' after {} ms", text, waited.toMillis());
+        return Optional.of(new AcceptedAlert(text, waited));
+    }
+
+    private static Optional<AcceptedAlert> pollNativeAlert(Duration timeout, long started) {
+        long deadline = started + timeout.toNanos();
+        long pollMs = FIRST_POLL_MS;
+
+        while (true) {
+            try {
+                Alert alert = WebDriverRunner.getWebDriver().switchTo().alert();
+                Duration waited = Duration.ofNanos(System.nanoTime() - started);
+                String text = alert.getText();
+                alert.accept();
+                logger.info("Accepted alert '{}' after {} ms", text, waited.toMillis());
+                return Optional.of(new AcceptedAlert(text, waited));
+            } catch (NoAlertPresentException e) {
+                long remainingMs = (deadline - System.nanoTime()) / 1_000_000;
+                if (remainingMs <= 0) {
+                    logger.debug("No alert appeared within {} ms", timeout.toMillis());
+                    return Optional.empty();
+                }
+                pause(Math.min(pollMs, remainingMs));
+                pollMs = Math.min(pollMs * 2, MAX_POLL_MS);
+            }
+        }
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for alert", e);
+        }
+    }
+}
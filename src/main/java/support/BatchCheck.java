@@ -0,0 +1,87 @@
+package support;
+
+import com.codeborne.selenide.Configuration;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Verifies a group of elements in one executeScript call instead of one WebDriver round-trip per element
+ * The whole batch is re-evaluated until it passes or Configuration.timeout expires (see DomWaits for how it waits);
+ * the failure lists every mismatch
+ *
+ * Visibility follows the usual rendered-box check; text matching mirrors Selenide's text() condition
+ * (case-insensitive substring with whitespace collapsed).
+ *
+ * Usage:
+ * BatchCheck.of("Navigation bar")
+ *     .visible(PRODUCT_STORE)
+ *     .visibleWithText(CART_LINK, "Cart")
+ *     .verify();
+ */
+public final class BatchCheck {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchCheck.class);
+
+    private static final String EVALUATE = Locators.FIND_FUNCTION + """
+        var checks = arguments[0], failures = [];
+        function normalize(text) { return (text || '').replace(/\\s+/g, ' ').trim(); }
+        checks.forEach(function (check) {
+            var el = find(check.using, check.value);
+            if (!el) { failures.push(check.name + ': not found'); return; }
+            if (!isVisible(el)) { failures.push(check.name + ': not visible'); return; }
+            if (check.text != null) {
+                var actual = normalize(el.innerText);
+                if (actual.toLowerCase().indexOf(normalize(check.text).toLowerCase()) < 0) {
+                    failures.push(check.name + ": expected text '" + check.text + "' but was '" + actual + "'");
+                }
+            }
+        });
+        return failures;
+        """;
+
+    private final String description;
+    private final List<Map<String, Object>> checks = new ArrayList<>();
+
+    private BatchCheck(String description) {
+        this.description = description;
+    }
+
+    public static BatchCheck of(String description) {
+        return new BatchCheck(description);
+    }
+
+    public BatchCheck visible(By locator) {
+        return add(locator, null);
+    }
+
+    public BatchCheck visibleWithText(By locator, String text) {
+        return add(locator, text);
+    }
+
+    /**
+     * Evaluates all checks in the browser, retrying the whole batch until it passes or the Selenide timeout expires.
+     *
+     * @throws AssertionError listing every element that did not match on the last attempt
+     */
+    public void verify() {
+        long started = System.currentTimeMillis();
+        List<String> failures = DomWaits.awaitNoFailures(EVALUATE, checks, started + Configuration.timeout);
+        if (!failures.isEmpty()) {
+            throw new AssertionError(description + " failed after " + (System.currentTimeMillis() - started)
+                + " ms:\n - " + String.join("\n - ", failures));
+        }
+        logger.debug("{}: {} checks passed in {} ms", description, checks.size(), System.currentTimeMillis() - started);
+    }
+
+    private BatchCheck add(By locator, String text) {
+        Map<String, Object> check = Locators.toScript(locator);
+        check.put("text", text);
+        checks.add(check);
+        return this;
+    }
+}
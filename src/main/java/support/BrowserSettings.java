@@ -0,0 +1,55 @@
+package support;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.WebDriverRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Applies the shared Selenide configuration once per JVM
+ * Selenide's Configuration is global, so test setup must not rewrite it while other workers are starting browsers
+ *
+ * Configuration (system properties):
+ * -Dselenide.browser=chrome|firefox
+ * -Dselenide.browserSize=1920x1080
+ * -Dselenide.headless=true
+ * -Dalerts.capture=true          queue window.alert/confirm in the page instead of opening native dialogs
+ * -Dpage.readiness=network       eager page loads; pages are ready when their XHR/fetch traffic is quiet
+ */
+public final class BrowserSettings {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserSettings.class);
+
+    private static boolean applied;
+
+    private BrowserSettings() {
+    }
+
+    public static String browserName() {
+        return System.getProperty("selenide.browser", "chrome");
+    }
+
+    public static synchronized void apply() {
+        if (applied) {
+            return;
+        }
+        Configuration.browser = IsolatedBrowserFactory.class.getName();
+        Configuration.browserSize = System.getProperty("selenide.browserSize", "1920x1080");
+        Configuration.headless = Boolean.parseBoolean(System.getProperty("selenide.headless", "false"));
+        // Failure artifacts are captured once by the test infrastructure, not on every failed Selenide check
+        Configuration.screenshots = false;
+        Configuration.savePageSource = false;
+        Configuration.reportsFolder = "target/screenshots";
+        if (PageReadiness.isNetworkMode()) {
+            // Return at DOMContentLoaded; PageReadiness waits for the AJAX content instead of every image
+            Configuration.pageLoadStrategy = "eager";
+        }
+        // Page scripts must be registered before the first browser starts so it can preload them
+        Alerts.registerCaptureScript();
+        PageReadiness.registerTrackerScript();
+        WebDriverRunner.addListener(new NavigationTracker());
+        applied = true;
+        logger.info("Selenide configured for {} (headless: {}, size: {})",
+            browserName(), Configuration.headless, Configuration.browserSize);
+    }
+}
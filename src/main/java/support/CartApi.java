@@ -0,0 +1,153 @@
+package support;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.WebDriverRunner;
+import data.Environment;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Seeds cart state through the DemoBlaze JSON API instead of clicking through product pages
+ * Uses the browser's own cart cookie, so the cart page shows the seeded items; works against the live API and the stand-in
+ *
+ * Usage:
+ * CartApi.addProduct(TestData.Products.NOKIA_LUMIA);
+ * List<Integer> productIds = CartApi.viewCart();
+ */
+public final class CartApi {
+
+    private static final Logger logger = LoggerFactory.getLogger(CartApi.class);
+
+    private static final String CART_COOKIE = "user";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(15);
+    private static final Json JSON = new Json();
+    private static final HttpClient client = HttpClient.newBuilder()
+        .connectTimeout(REQUEST_TIMEOUT)
+        .build();
+
+    // api url -> (product title -> product id); the catalogue does not change during a run
+    private static final Map<String, Map<String, Integer>> productIds = new ConcurrentHashMap<>();
+
+    private CartApi() {
+    }
+
+    /**
+     * Adds one product to the current browser's cart with a single /addtocart call.
+     */
+    public static void addProduct(String productName) {
+        addProduct(productId(productName));
+        logger.info("Seeded cart with '{}' through the API", productName);
+    }
+
+    public static void addProduct(int productId) {
+        post("addtocart", Map.of(
+            "id", UUID.randomUUID().toString(),
+            "cookie", cartCookie(),
+            "prod_id", productId,
+            "flag", false));
+    }
+
+    /**
+     * Product ids currently in the browser's cart, in the order they were added.
+     */
+    public static List<Integer> viewCart() {
+        Map<String, Object> cart = post("viewcart", Map.of("cookie", cartCookie(), "flag", false));
+        return items(cart).stream()
+            .map(item -> ((Number) item.get("prod_id")).intValue())
+            .toList();
+    }
+
+    public static int productId(String productName) {
+        Map<String, Integer> catalogue = productIds.computeIfAbsent(Environment.apiUrl(), url -> loadCatalogue());
+        Integer id = catalogue.get(productName);
+        if (id == null) {
+            throw new IllegalArgumentException("Unknown product: " + productName);
+        }
+        return id;
+    }
+
+    /**
+     * Cart cookie value in the form the API expects ("user=<uuid>").
+     * Opens the home page first when the browser is not on the site yet, since cookies belong to the site origin.
+     */
+    public static String cartCookie() {
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        String currentUrl = driver.getCurrentUrl();
+        if (currentUrl == null || !currentUrl.startsWith(Environment.siteUrl())) {
+            Selenide.open(Environment.homeUrl());
+        }
+        Cookie cookie = driver.manage().getCookieNamed(CART_COOKIE);
+        if (cookie == null) {
+            // The site sets this cookie from its own script; create it when that has not happened yet
+            cookie = new Cookie(CART_COOKIE, UUID.randomUUID().toString(), "/");
+            driver.manage().addCookie(cookie);
+        }
+        return CART_COOKIE + "=" + cookie.getValue();
+    }
+
+    private static Map<String, Integer> loadCatalogue() {
+        Map<String, Integer> catalogue = new ConcurrentHashMap<>();
+        Map<String, Object> page = get("entries");
+        while (true) {
+            for (Map<String, Object> item : items(page)) {
+                catalogue.putIfAbsent(String.valueOf(item.get("title")).trim(), ((Number) item.get("id")).intValue());
+            }
+            Object lastKey = page.get("LastEvaluatedKey");
+            if (!(lastKey instanceof Map<?, ?> key)) {
+                break;
+            }
+            page = post("pagination", Map.of("id", String.valueOf(key.get("id"))));
+        }
+        logger.info("Loaded {} products from {}", catalogue.size(), Environment.apiUrl());
+        return catalogue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> items(Map<String, Object> response) {
+        Object items = response.get("Items");
+        return items instanceof List<?> list ? (List<Map<String, Object>>) list : List.of();
+    }
+
+    private static Map<String, Object> get(String path) {
+        return send(HttpRequest.newBuilder(URI.create(Environment.apiEndpoint(path))).GET());
+    }
+
+    private static Map<String, Object> post(String path, Map<String, Object> body) {
+        return send(HttpRequest.newBuilder(URI.create(Environment.apiEndpoint(path)))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(JSON.toJson(body))));
+    }
+
+    private static Map<String, Object> send(HttpRequest.Builder builder) {
+        HttpRequest request = builder.timeout(REQUEST_TIMEOUT).build();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() / 100 != 2) {
+                throw new IllegalStateException(request.uri() + " returned HTTP " + response.statusCode());
+            }
+            String body = Objects.requireNonNullElse(response.body(), "").trim();
+            // /addtocart answers with an empty body on the live API
+            return body.startsWith("{") ? JSON.toType(body, Json.MAP_TYPE) : Map.of();
+        } catch (IOException e) {
+            throw new IllegalStateException("Request to " + request.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while calling " + request.uri(), e);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package support;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Decides how page checks wait between attempts
+ * POLL (default) sleeps Configuration.pollingInterval between attempts. OBSERVER installs a MutationObserver
+ * (plus transition and animation end listeners) and wakes up as soon as the page changes, so a check passes
+ * on the first change that satisfies it instead of at the next poll; polling remains the fallback whenever
+ * the page cannot be observed, e.g. while it is navigating
+ *
+ * Configuration (system properties):
+ * -Dwaits.mode=poll|observer   (default poll)
+ */
+public final class DomWaits {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomWaits.class);
+
+    // Longest single in-page wait; keeps async scripts well inside WebDriver's script timeout
+    private static final long MAX_SLICE_MS = 5000;
+
+    public enum Mode {
+        POLL,
+        OBSERVER
+    }
+
+    private static final Mode MODE =
+        Mode.valueOf(System.getProperty("waits.mode", "poll").trim().toUpperCase(Locale.ROOT));
+
+    // Resolves on the first DOM mutation, transition or animation end, or after the timeout
+    private static final String AWAIT_CHANGE = """
+        var done = arguments[arguments.length - 1], timeout = arguments[0], finished = false;
+        var observer = new MutationObserver(finish);
+        function finish() {
+            if (finished) { return; }
+            finished = true;
+            observer.disconnect();
+            document.removeEventListener('transitionend', finish, true);
+            document.removeEventListener('animationend', finish, true);
+            clearTimeout(timer);
+            done(true);
+        }
+        observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+        document.addEventListener('transitionend', finish, true);
+        document.addEventListener('animationend', finish, true);
+        var timer = setTimeout(finish, timeout);
+        """;
+
+    // Runs a failure-list evaluation now and again after every change until it returns no failures or times out
+    private static final String AWAIT_NO_FAILURES = """
+        var args = arguments, done = args[args.length - 1], input = args[0], timeout = args[1];
+        var evaluate = new Function(args[2]);
+        var failures = evaluate(input);
+        if (!failures.length) { done(failures); return; }
+        var finished = false, scheduled = false;
+        var observer = new MutationObserver(changed);
+        function finish() {
+            if (finished) { return; }
+            finished = true;
+            observer.disconnect();
+            document.removeEventListener('transitionend', changed, true);
+            document.removeEventListener('animationend', changed, true);
+            clearTimeout(timer);
+            done(failures);
+        }
+        function recheck() {
+            scheduled = false;
+            if (finished) { return; }
+            failures = evaluate(input);
+            if (!failures.length) { finish(); }
+        }
+        function changed() {
+            if (!scheduled) { scheduled = true; setTimeout(recheck, 0); }
+        }
+        observer.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+        document.addEventListener('transitionend', changed, true);
+        document.addEventListener('animationend', changed, true);
+        var timer = setTimeout(function () { failures = evaluate(input); finish(); }, timeout);
+        """;
+
+    private DomWaits() {
+    }
+
+    public static Mode mode() {
+        return MODE;
+    }
+
+    /**
+     * Waits before the next attempt of a check that must pass by {@code deadline} (epoch millis):
+     * one poll interval, or in observer mode until the page next changes.
+     */
+    public static void pause(long deadline) {
+        long remaining = deadline - System.currentTimeMillis();
+        if (remaining <= 0) {
+            return;
+        }
+        if (MODE == Mode.OBSERVER) {
+            try {
+                Selenide.executeAsyncJavaScript(AWAIT_CHANGE, Math.min(remaining, MAX_SLICE_MS));
+                return;
+            } catch (WebDriverException e) {
+                logger.debug("Could not observe the page, polling instead: {}", e.getMessage());
+            }
+        }
+        Selenide.sleep(Math.min(remaining, Configuration.pollingInterval));
+    }
+
+    /**
+     * Evaluates {@code script} (a function body that reads its input as arguments[0] and returns a list of
+     * failures) until it returns none or {@code deadline} passes, and returns the last failures.
+     * In poll mode each attempt is one round-trip; in observer mode the page re-evaluates on every change.
+     */
+    static List<String> awaitNoFailures(String script, Object input, long deadline) {
+        List<String> failures;
+        while (true) {
+            long remaining = deadline - System.currentTimeMillis();
+            boolean observed = MODE == Mode.OBSERVER && remaining > 0;
+            try {
+                failures = observed
+                    ? Selenide.executeAsyncJavaScript(AWAIT_NO_FAILURES, input, Math.min(remaining, MAX_SLICE_MS), script)
+                    : Selenide.executeJavaScript(script, input);
+            } catch (WebDriverException e) {
+                // The page is navigating or not ready; report it as a failure and poll for the next attempt
+                failures = List.of("page could not be evaluated: " + e.getMessage().lines().findFirst().orElse(""));
+                observed = false;
+            }
+            if (failures == null || failures.isEmpty()) {
+                return List.of();
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return failures;
+            }
+            if (!observed) {
+                Selenide.sleep(Math.max(0, Math.min(deadline - System.currentTimeMillis(), Configuration.pollingInterval)));
+            }
+        }
+    }
+}
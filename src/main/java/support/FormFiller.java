@@ -0,0 +1,111 @@
+package support;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.By;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Fills a set of form fields with one of two strategies
+ * KEYSTROKE types into each field through WebDriver, as a user would (one round-trip per field);
+ * SCRIPT sets every value in one executeScript call and fires input and change events on each field,
+ * retrying until all fields are present, visible and enabled or Configuration.timeout expires
+ *
+ * Configuration (system properties):
+ * -Dforms.fill=keystroke|script   (default keystroke)
+ *
+ * Usage:
+ * FormFiller.of("Order form")
+ *     .field(NAME_FIELD, name)
+ *     .field(COUNTRY_FIELD, country)
+ *     .fill();
+ */
+public final class FormFiller {
+
+    private static final Logger logger = LoggerFactory.getLogger(FormFiller.class);
+
+    public enum Strategy {
+        KEYSTROKE,
+        SCRIPT;
+
+        public static Strategy configured() {
+            return valueOf(System.getProperty("forms.fill", "keystroke").trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    // The prototype's value setter keeps frameworks that track input values in sync with the new value
+    private static final String SET_VALUES = Locators.FIND_FUNCTION + """
+        var fields = arguments[0], failures = [];
+        var elements = fields.map(function (field) { return find(field.using, field.value); });
+        fields.forEach(function (field, i) {
+            var el = elements[i];
+            if (!el) { failures.push(field.name + ': not found'); }
+            else if (!isVisible(el)) { failures.push(field.name + ': not visible'); }
+            else if (el.disabled || el.readOnly) { failures.push(field.name + ': not editable'); }
+        });
+        if (failures.length) { return failures; }
+        fields.forEach(function (field, i) {
+            var el = elements[i];
+            var setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');
+            if (setter && setter.set) { setter.set.call(el, field.text); } else { el.value = field.text; }
+            el.dispatchEvent(new Event('input', {bubbles: true}));
+            el.dispatchEvent(new Event('change', {bubbles: true}));
+        });
+        return failures;
+        """;
+
+    private final String description;
+    private final Map<By, String> fields = new LinkedHashMap<>();
+
+    private FormFiller(String description) {
+        this.description = description;
+    }
+
+    public static FormFiller of(String description) {
+        return new FormFiller(description);
+    }
+
+    public FormFiller field(By locator, String value) {
+        fields.put(locator, value);
+        return this;
+    }
+
+    /**
+     * Fills the fields with the strategy selected by -Dforms.fill.
+     */
+    public void fill() {
+        fill(Strategy.configured());
+    }
+
+    public void fill(Strategy strategy) {
+        long started = System.currentTimeMillis();
+        if (strategy == Strategy.SCRIPT) {
+            fillByScript();
+        } else {
+            fields.forEach((locator, value) -> Selenide.$(locator).setValue(value));
+        }
+        logger.debug("{}: {} field(s) filled by {} in {} ms",
+            description, fields.size(), strategy, System.currentTimeMillis() - started);
+    }
+
+    private void fillByScript() {
+        List<Map<String, Object>> script = new ArrayList<>();
+        fields.forEach((locator, value) -> {
+            Map<String, Object> field = Locators.toScript(locator);
+            field.put("text", value == null ? "" : value);
+            script.add(field);
+        });
+        List<String> failures = DomWaits.awaitNoFailures(SET_VALUES, script,
+            System.currentTimeMillis() + Configuration.timeout);
+        if (!failures.isEmpty()) {
+            throw new AssertionError(description + " could not be filled:\n - " + String.join("\n - ", failures));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package support;
+
+import com.codeborne.selenide.Browser;
+import com.codeborne.selenide.Config;
+import com.codeborne.selenide.webdriver.ChromeDriverFactory;
+import com.codeborne.selenide.webdriver.DriverFactory;
+import com.codeborne.selenide.webdriver.FirefoxDriverFactory;
+import org.openqa.selenium.MutableCapabilities;
+import org.openqa.selenium.Proxy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+/**
+ * Selenide driver factory that gives every browser its own Chrome profile directory and debugging port
+ * Lets several workers start browsers concurrently without sharing global chromeoptions.args
+ * The actual browser is chosen with -Dselenide.browser (chrome or firefox)
+ */
+public class IsolatedBrowserFactory implements DriverFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(IsolatedBrowserFactory.class);
+
+    private static final Queue<Path> profileDirectories = new ConcurrentLinkedQueue<>();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(IsolatedBrowserFactory::deleteProfileDirectories,
+            "browser-profile-cleanup"));
+    }
+
+    @Override
+    public MutableCapabilities createCapabilities(Config config, Browser browser, Proxy proxy, File browserDownloadsFolder) {
+        Browser target = targetBrowser(config);
+        return delegateFor(target).createCapabilities(config, target, proxy, browserDownloadsFolder);
+    }
+
+    @Override
+    public WebDriver create(Config config, Browser browser, Proxy proxy, File browserDownloadsFolder) {
+        Browser target = targetBrowser(config);
+        WebDriver driver = delegateFor(target).create(config, target, proxy, browserDownloadsFolder);
+        PageScripts.installOn(driver);
+        RequestBlocking.applyTo(driver);
+        logger.info("Started isolated {} browser on thread {}", target.name, Thread.currentThread().getName());
+        return driver;
+    }
+
+    private static Browser targetBrowser(Config config) {
+        return new Browser(BrowserSettings.browserName(), config.headless());
+    }
+
+    private static DriverFactory delegateFor(Browser browser) {
+        if (browser.isFirefox()) {
+            // geckodriver already creates a throw-away profile and picks a free Marionette port per session
+            return new BlockingFirefoxDriverFactory();
+        }
+        return new IsolatedChromeDriverFactory();
+    }
+
+    private static class IsolatedChromeDriverFactory extends ChromeDriverFactory {
+
+        @Override
+        protected List<String> createChromeArguments(Config config, Browser browser) {
+            List<String> arguments = new ArrayList<>(super.createChromeArguments(config, browser));
+            arguments.add("--no-sandbox");
+            arguments.add("--disable-dev-shm-usage");
+            arguments.add("--disable-gpu");
+            arguments.add("--disable-extensions");
+            arguments.add("--user-data-dir=" + newProfileDirectory());
+            arguments.add("--remote-debugging-port=" + freePort());
+            return arguments;
+        }
+    }
+
+    private static class BlockingFirefoxDriverFactory extends FirefoxDriverFactory {
+
+        @Override
+        protected void setupPreferences(FirefoxOptions options) {
+            super.setupPreferences(options);
+            RequestBlocking.firefoxPreferences().forEach(options::addPreference);
+        }
+    }
+
+    private static Path newProfileDirectory() {
+        try {
+            Path directory = Files.createTempDirectory("chrome-user-data-");
+            profileDirectories.add(directory);
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create Chrome profile directory", e);
+        }
+    }
+
+    private static int freePort() {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            socket.setReuseAddress(true);
+            return socket.getLocalPort();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not allocate Chrome debugging port", e);
+        }
+    }
+
+    private static void deleteProfileDirectories() {
+        Path directory;
+        while ((directory = profileDirectories.poll()) != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            } catch (IOException e) {
+                logger.debug("Could not delete Chrome profile {}: {}", directory, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package support;
+
+import org.openqa.selenium.By;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hands Selenium locators to scripts that resolve them inside the page
+ * {@link #toScript(By)} describes a locator as {name, using, value}; {@link #FIND_FUNCTION} declares
+ * find(using, value) for the strategies those descriptions can carry
+ */
+final class Locators {
+
+    static final String FIND_FUNCTION = """
+        function find(using, value) {
+            switch (using) {
+                case 'css selector': return document.querySelector(value);
+                case 'xpath': return document.evaluate(value, document, null,
+                    XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                case 'link text': return Array.from(document.querySelectorAll('a'))
+                    .find(function (a) { return a.innerText.trim() === value; }) || null;
+                case 'partial link text': return Array.from(document.querySelectorAll('a'))
+                    .find(function (a) { return a.innerText.indexOf(value) >= 0; }) || null;
+                case 'tag name': return document.getElementsByTagName(value)[0] || null;
+                default: throw new Error('Unsupported locator strategy: ' + using);
+            }
+        }
+        function isVisible(el) {
+            if (!el.getClientRects().length) { return false; }
+            var style = window.getComputedStyle(el);
+            return style.visibility !== 'hidden' && style.opacity !== '0';
+        }
+        """;
+
+    private Locators() {
+    }
+
+    static Map<String, Object> toScript(By locator) {
+        if (!(locator instanceof By.Remotable remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated in the page: " + locator);
+        }
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("name", locator.toString());
+        description.put("using", parameters.using());
+        description.put("value", String.valueOf(parameters.value()));
+        return description;
+    }
+}
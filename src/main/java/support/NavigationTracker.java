@@ -0,0 +1,65 @@
+package support;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+/**
+ * Counts the WebDriver commands on the current thread that may replace the document
+ * (open, back/forward/refresh, click, submit), so page objects can cache what they read from a page
+ * and know without a browser round-trip when that cache may be out of date
+ *
+ * Every click counts, including ones that do not navigate; a cache is at worst rebuilt once too often.
+ *
+ * Usage:
+ * long generation = NavigationTracker.generation();
+ * ... read the page ...
+ * if (NavigationTracker.generation() != generation) { read it again }
+ */
+public final class NavigationTracker implements WebDriverListener {
+
+    private static final ThreadLocal<long[]> generation = ThreadLocal.withInitial(() -> new long[1]);
+
+    public static long generation() {
+        return generation.get()[0];
+    }
+
+    private static void advance() {
+        generation.get()[0]++;
+    }
+
+    @Override
+    public void beforeGet(WebDriver driver, String url) {
+        advance();
+    }
+
+    @Override
+    public void beforeTo(WebDriver.Navigation navigation, String url) {
+        advance();
+    }
+
+    @Override
+    public void beforeBack(WebDriver.Navigation navigation) {
+        advance();
+    }
+
+    @Override
+    public void beforeForward(WebDriver.Navigation navigation) {
+        advance();
+    }
+
+    @Override
+    public void beforeRefresh(WebDriver.Navigation navigation) {
+        advance();
+    }
+
+    @Override
+    public void beforeClick(WebElement element) {
+        advance();
+    }
+
+    @Override
+    public void beforeSubmit(WebElement element) {
+        advance();
+    }
+}
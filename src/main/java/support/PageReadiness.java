@@ -0,0 +1,132 @@
+package support;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+
+/**
+ * Declares a page ready once its XHR/fetch traffic has gone quiet, instead of at the browser's load event
+ * A page script counts in-flight XMLHttpRequest and fetch calls; {@link #await()} returns when none are pending
+ * and no request has started or finished for the quiet window. Together with the eager page-load strategy this
+ * waits for the AJAX-rendered content (product grid, product details, cart rows) but not for images or other assets.
+ *
+ * On browsers without DevTools preload the counter is installed by the first await() on a document, so it can
+ * miss requests started before then; completed requests are still seen through Resource Timing.
+ *
+ * Configuration (system properties):
+ * -Dpage.readiness=load|network     (default load: rely on the browser's load event, await() does nothing)
+ * -Dpage.readiness.quietMs=250      quiet window after the last request
+ */
+public final class PageReadiness {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageReadiness.class);
+
+    private static final String TRACKER_SCRIPT = "network-tracker";
+    private static final long MAX_SLICE_MS = 5000;
+
+    private static final String TRACKER_SOURCE = """
+        (function () {
+            if (window.__pageReadiness) { return; }
+            var state = window.__pageReadiness = {pending: 0, lastActivity: performance.now()};
+            function started() { state.pending++; state.lastActivity = performance.now(); }
+            function finished() { state.pending = Math.max(0, state.pending - 1); state.lastActivity = performance.now(); }
+            var send = XMLHttpRequest.prototype.send;
+            XMLHttpRequest.prototype.send = function () {
+                started();
+                this.addEventListener('loadend', finished, {once: true});
+                return send.apply(this, arguments);
+            };
+            if (window.fetch) {
+                var originalFetch = window.fetch;
+                window.fetch = function () {
+                    started();
+                    return originalFetch.apply(this, arguments).then(
+                        function (response) { finished(); return response; },
+                        function (error) { finished(); throw error; });
+                };
+            }
+        })();
+        """;
+
+    // Installs the counter if the page lacks it, then polls inside the page so waiting costs one round-trip
+    private static final String AWAIT_QUIET = """
+        var done = arguments[arguments.length - 1], quiet = arguments[0], timeout = arguments[1];
+        var started = performance.now(), tracked = !!window.__pageReadiness;
+        """ + TRACKER_SOURCE + """
+        function lastActivity(state) {
+            var last = state ? state.lastActivity : 0;
+            var navigation = performance.getEntriesByType('navigation')[0];
+            if (navigation) { last = Math.max(last, navigation.domContentLoadedEventEnd); }
+            performance.getEntriesByType('resource').forEach(function (entry) {
+                if (entry.initiatorType === 'xmlhttprequest' || entry.initiatorType === 'fetch') {
+                    last = Math.max(last, entry.responseEnd);
+                }
+            });
+            return last;
+        }
+        function check() {
+            var state = window.__pageReadiness, now = performance.now();
+            var pending = state ? state.pending : 0;
+            var idle = now - lastActivity(state);
+            if (document.readyState !== 'loading' && pending === 0 && idle >= quiet) {
+                done({ready: true, pending: 0, tracked: tracked});
+            } else if (now - started >= timeout) {
+                done({ready: false, pending: pending, tracked: tracked, readyState: document.readyState});
+            } else {
+                setTimeout(check, 25);
+            }
+        }
+        check();
+        """;
+
+    private PageReadiness() {
+    }
+
+    public static boolean isNetworkMode() {
+        return "network".equalsIgnoreCase(System.getProperty("page.readiness", "load"));
+    }
+
+    /**
+     * Registers the request counter for preloading; call before the first browser starts (BrowserSettings does).
+     */
+    public static void registerTrackerScript() {
+        if (isNetworkMode()) {
+            PageScripts.register(TRACKER_SCRIPT, TRACKER_SOURCE);
+        }
+    }
+
+    /**
+     * Waits until the current page has no XHR/fetch in flight and has been quiet for the quiet window,
+     * up to Configuration.pageLoadTimeout. Does nothing unless -Dpage.readiness=network.
+     * A page that never goes quiet is logged and left to the checks that follow.
+     */
+    public static void await() {
+        if (!isNetworkMode()) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        long deadline = started + Configuration.pageLoadTimeout;
+        long quietMs = Long.getLong("page.readiness.quietMs", 250);
+        Map<String, Object> state = Map.of();
+        while (System.currentTimeMillis() < deadline) {
+            try {
+                long slice = Math.min(deadline - System.currentTimeMillis(), MAX_SLICE_MS);
+                state = Selenide.executeAsyncJavaScript(AWAIT_QUIET, quietMs, slice);
+                if (state != null && Boolean.TRUE.equals(state.get("ready"))) {
+                    logger.debug("Page ready after {} ms (tracked: {})",
+                        System.currentTimeMillis() - started, state.get("tracked"));
+                    return;
+                }
+            } catch (WebDriverException e) {
+                // The document was replaced while waiting; wait on the new one
+                logger.debug("Readiness check interrupted: {}", e.getMessage());
+                Selenide.sleep(Math.max(0, Math.min(deadline - System.currentTimeMillis(), Configuration.pollingInterval)));
+            }
+        }
+        logger.warn("Page not network-quiet after {} ms: {}", System.currentTimeMillis() - started, state);
+    }
+}
@@ -0,0 +1,74 @@
+package support;
+
+import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Registry of scripts that must run in every page before the site's own scripts
+ * On Chromium they are registered with the DevTools protocol when the browser starts (see IsolatedBrowserFactory);
+ * other browsers get them injected into the current document on demand through {@link #ensureInPage(String)}
+ *
+ * Scripts must be idempotent: they can run more than once in the same document.
+ */
+public final class PageScripts {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageScripts.class);
+
+    private static final Map<String, String> scripts = new LinkedHashMap<>();
+
+    private PageScripts() {
+    }
+
+    public static synchronized void register(String name, String source) {
+        if (scripts.putIfAbsent(name, source) == null) {
+            logger.info("Registered page script '{}'", name);
+        }
+    }
+
+    public static synchronized boolean isRegistered(String name) {
+        return scripts.containsKey(name);
+    }
+
+    /**
+     * Registers all known scripts to run on every new document of a freshly created browser.
+     */
+    public static void installOn(WebDriver driver) {
+        Map<String, String> snapshot;
+        synchronized (PageScripts.class) {
+            snapshot = Map.copyOf(scripts);
+        }
+        if (snapshot.isEmpty() || !(driver instanceof HasCdp cdp)) {
+            return;
+        }
+        snapshot.forEach((name, source) -> {
+            try {
+                cdp.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of("source", source));
+                logger.debug("Page script '{}' preloaded through DevTools", name);
+            } catch (WebDriverException e) {
+                logger.warn("Could not preload page script '{}', falling back to in-page injection: {}",
+                    name, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Runs the named script in the current document; cheap when the script already guards itself.
+     */
+    public static void ensureInPage(String name) {
+        String source;
+        synchronized (PageScripts.class) {
+            source = scripts.get(name);
+        }
+        if (source == null) {
+            throw new IllegalStateException("Page script not registered: " + name);
+        }
+        Selenide.executeJavaScript(source);
+    }
+}
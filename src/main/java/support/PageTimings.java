@@ -0,0 +1,309 @@
+package support;
+
+import com.codeborne.selenide.Configuration;
+import com.codeborne.selenide.Selenide;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.function.Consumer;
+
+/**
+ * Reads front-end timings from the browser at the points of the customer journey the page objects reach
+ * One script call collects Navigation Timing (TTFB, DOMContentLoaded, load), Resource Timing (count, bytes,
+ * slowest resource) and, where the browser reports them, LCP and CLS. Soft transitions such as the order
+ * modal are measured from a mark taken before the click until the given element is visible.
+ *
+ * Captures go to this thread's listeners (utils.PageTimingReporter attaches them to Allure and aggregates
+ * them per page) and are kept as {@link #last()} for budget checks. A capture that fails is logged, never thrown.
+ *
+ * Configuration (system properties):
+ * -Dpage.timings=true|false     (default true)
+ *
+ * Usage:
+ * PageTimings.capture("Home");
+ * double mark = PageTimings.mark(); button.click(); PageTimings.captureInteraction("Order form", mark, "#orderModal");
+ */
+public final class PageTimings {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageTimings.class);
+
+    // Buffered observers replay LCP and layout-shift entries recorded before the call, so no preload is needed.
+    // CLS is the largest session window (shifts less than 1 s apart, at most 5 s long), as web-vitals reports it.
+    private static final String CAPTURE = """
+        var done = arguments[arguments.length - 1], since = arguments[0], readyCss = arguments[1], timeout = arguments[2];
+        var started = performance.now();
+        function visible(css) {
+            var element = css ? document.querySelector(css) : null;
+            return !css || (element && element.getClientRects().length > 0
+                && getComputedStyle(element).visibility !== 'hidden' && getComputedStyle(element).opacity !== '0');
+        }
+        function collect() {
+            var metrics = {}, now = performance.now();
+            var navigation = performance.getEntriesByType('navigation')[0];
+            if (since > 0) {
+                metrics.interaction = now - since;
+            } else if (navigation) {
+                metrics.ttfb = navigation.responseStart - (navigation.activationStart || 0);
+                metrics.domContentLoaded = navigation.domContentLoadedEventEnd;
+                if (navigation.loadEventEnd > 0) { metrics.load = navigation.loadEventEnd; }
+                metrics.documentBytes = navigation.transferSize || 0;
+                var paint = performance.getEntriesByName('first-contentful-paint')[0];
+                if (paint) { metrics.fcp = paint.startTime; }
+            }
+            var resources = performance.getEntriesByType('resource').filter(function (entry) {
+                return entry.startTime >= since;
+            });
+            var slowest = null, bytes = 0;
+            resources.forEach(function (entry) {
+                bytes += entry.transferSize || 0;
+                if (!slowest || entry.duration > slowest.duration) { slowest = entry; }
+            });
+            metrics.resources = resources.length;
+            metrics.resourceBytes = bytes;
+            if (slowest) { metrics.slowestResource = slowest.duration; }
+            return {url: location.href, metrics: metrics, slowestResourceUrl: slowest ? slowest.name : null};
+        }
+        function observe(result) {
+            var supported = (window.PerformanceObserver && PerformanceObserver.supportedEntryTypes) || [];
+            var lcp = 0, shifts = [], observers = [];
+            function watch(type, handle) {
+                if (supported.indexOf(type) < 0) { return; }
+                var observer = new PerformanceObserver(function (list) { list.getEntries().forEach(handle); });
+                observer.observe({type: type, buffered: true});
+                observers.push({observer: observer, handle: handle});
+            }
+            if (since === 0) {
+                watch('largest-contentful-paint', function (entry) { lcp = Math.max(lcp, entry.startTime); });
+            }
+            watch('layout-shift', function (entry) {
+                if (!entry.hadRecentInput && entry.startTime >= since) { shifts.push(entry); }
+            });
+            setTimeout(function () {
+                observers.forEach(function (o) { o.observer.takeRecords().forEach(o.handle); o.observer.disconnect(); });
+                if (lcp > 0) { result.metrics.lcp = lcp; }
+                if (supported.indexOf('layout-shift') >= 0) {
+                    shifts.sort(function (a, b) { return a.startTime - b.startTime; });
+                    var cls = 0, current = 0, first = 0, previous = 0;
+                    shifts.forEach(function (entry) {
+                        if (current > 0 && entry.startTime - previous < 1000 && entry.startTime - first < 5000) {
+                            current += entry.value;
+                        } else {
+                            current = entry.value;
+                            first = entry.startTime;
+                        }
+                        previous = entry.startTime;
+                        cls = Math.max(cls, current);
+                    });
+                    result.metrics.cls = cls;
+                }
+                done(result);
+            }, 50);
+        }
+        function check() {
+            if (document.readyState !== 'loading' && visible(readyCss)) {
+                observe(collect());
+            } else if (performance.now() - started >= timeout) {
+                var result = collect();
+                result.timedOut = true;
+                observe(result);
+            } else {
+                setTimeout(check, 25);
+            }
+        }
+        check();
+        """;
+
+    // Latest completed request whose URL contains the given text; null until one has finished
+    private static final String LAST_RESOURCE = """
+        var part = arguments[0];
+        var entries = performance.getEntriesByType('resource').filter(function (entry) {
+            return entry.name.indexOf(part) >= 0;
+        });
+        if (!entries.length) { return null; }
+        var entry = entries[entries.length - 1];
+        var measured = entry.responseStart > 0;
+        return {
+            url: entry.name,
+            duration: entry.duration,
+            dns: entry.domainLookupEnd - entry.domainLookupStart,
+            connect: entry.connectEnd - entry.connectStart,
+            waiting: measured ? entry.responseStart - entry.requestStart : 0,
+            download: measured ? entry.responseEnd - entry.responseStart : 0
+        };
+        """;
+
+    private static final long READY_TIMEOUT_MS = 5000;
+
+    /**
+     * One capture; durations are milliseconds from the start of the navigation (or from the mark for
+     * interactions), sizes are bytes and cls is the unitless layout-shift score.
+     */
+    public record PageTiming(String page, String url, Map<String, Double> metrics, String slowestResourceUrl) {
+
+        public OptionalDouble metric(String name) {
+            Double value = metrics.get(name);
+            return value == null ? OptionalDouble.empty() : OptionalDouble.of(value);
+        }
+    }
+
+    /**
+     * One request from Resource Timing, in milliseconds. Cross-origin responses without Timing-Allow-Origin
+     * report only the duration; their phases are 0.
+     */
+    public record ResourceTiming(String url, double duration, double dns, double connect, double waiting,
+                                 double download) {
+    }
+
+    private static final ThreadLocal<Map<String, Consumer<PageTiming>>> listeners =
+        ThreadLocal.withInitial(LinkedHashMap::new);
+    private static final ThreadLocal<PageTiming> last = new ThreadLocal<>();
+
+    private PageTimings() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty("page.timings", "true"));
+    }
+
+    /**
+     * Adds a listener for captures made on this thread, replacing one with the same name.
+     */
+    public static void addListener(String name, Consumer<PageTiming> listener) {
+        listeners.get().put(name, listener);
+    }
+
+    public static void removeListener(String name) {
+        listeners.get().remove(name);
+    }
+
+    /**
+     * Most recent capture on this thread, if any.
+     */
+    public static Optional<PageTiming> last() {
+        return Optional.ofNullable(last.get());
+    }
+
+    /**
+     * Forgets this thread's last capture; called between tests so budgets never see a previous test's page.
+     */
+    public static void reset() {
+        last.remove();
+    }
+
+    /**
+     * Captures the timings of the document that was just loaded.
+     */
+    public static void capture(String page) {
+        if (isEnabled()) {
+            run(page, 0, null);
+        }
+    }
+
+    /**
+     * Captures the current document now, even with -Dpage.timings=false; for explicit budget checks.
+     */
+    public static Optional<PageTiming> measure(String page) {
+        return run(page, 0, null);
+    }
+
+    /**
+     * Waits up to Configuration.timeout for a completed request whose URL contains {@code urlPart}
+     * and returns the latest one.
+     */
+    public static Optional<ResourceTiming> awaitResource(String urlPart) {
+        long deadline = System.currentTimeMillis() + Configuration.timeout;
+        while (true) {
+            try {
+                Map<String, Object> entry = Selenide.executeJavaScript(LAST_RESOURCE, urlPart);
+                if (entry != null) {
+                    return Optional.of(new ResourceTiming((String) entry.get("url"), number(entry, "duration"),
+                        number(entry, "dns"), number(entry, "connect"), number(entry, "waiting"),
+                        number(entry, "download")));
+                }
+            } catch (WebDriverException e) {
+                logger.debug("Could not read resource timings for '{}': {}", urlPart, e.getMessage());
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                return Optional.empty();
+            }
+            Selenide.sleep(Math.max(0, Math.min(deadline - System.currentTimeMillis(), Configuration.pollingInterval)));
+        }
+    }
+
+    /**
+     * Current page time, to pass to {@link #captureInteraction} after a click that does not navigate.
+     */
+    public static double mark() {
+        if (!isEnabled()) {
+            return 0;
+        }
+        try {
+            Number now = Selenide.executeJavaScript("return performance.now();");
+            return now == null ? 0 : now.doubleValue();
+        } catch (WebDriverException e) {
+            logger.debug("Could not mark page time: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Captures the time from {@code mark} until the element matching {@code readyCss} is visible,
+     * with the resources and layout shifts since the mark.
+     */
+    public static void captureInteraction(String page, double mark, String readyCss) {
+        if (mark > 0) {
+            // Without a mark (timings off or the mark failed) a navigation capture would report the wrong page load
+            run(page, mark, readyCss);
+        }
+    }
+
+    private static Optional<PageTiming> run(String page, double since, String readyCss) {
+        PageTiming timing;
+        try {
+            Map<String, Object> result = Selenide.executeAsyncJavaScript(CAPTURE, since, readyCss, READY_TIMEOUT_MS);
+            if (result == null) {
+                return Optional.empty();
+            }
+            timing = toTiming(page, result);
+            if (Boolean.TRUE.equals(result.get("timedOut"))) {
+                logger.warn("Page timings for '{}' taken before the page was ready ({} not visible)", page, readyCss);
+            }
+        } catch (WebDriverException | ClassCastException e) {
+            logger.debug("Could not capture page timings for '{}': {}", page, e.getMessage());
+            return Optional.empty();
+        }
+        logger.debug("Page timings for '{}': {}", page, timing.metrics());
+        last.set(timing);
+        for (Consumer<PageTiming> listener : listeners.get().values()) {
+            try {
+                listener.accept(timing);
+            } catch (RuntimeException e) {
+                logger.warn("Page timing listener failed for '{}': {}", page, e.getMessage());
+            }
+        }
+        return Optional.of(timing);
+    }
+
+    private static double number(Map<String, Object> values, String name) {
+        return values.get(name) instanceof Number number ? number.doubleValue() : 0;
+    }
+
+    private static PageTiming toTiming(String page, Map<String, Object> result) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> raw = (Map<String, Object>) result.get("metrics");
+        raw.forEach((name, value) -> {
+            if (value instanceof Number number) {
+                metrics.put(name, number.doubleValue());
+            }
+        });
+        return new PageTiming(page, (String) result.get("url"), Collections.unmodifiableMap(metrics),
+            (String) result.get("slowestResourceUrl"));
+    }
+}
@@ -0,0 +1,164 @@
+package support;
+
+import com.codeborne.selenide.WebDriverRunner;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.chromium.HasCdp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps browsers from downloading assets the tests never look at
+ * Rules are resource types (images, media, fonts), the "heavy" preset (About-us HLS stream, video files and
+ * carousel slides) or raw URL patterns with * wildcards. Chrome blocks them through DevTools
+ * (Network.setBlockedURLs), per browser and changeable at runtime. Firefox maps resource types to profile
+ * preferences at startup; URL patterns and per-test rules are not supported there and are logged.
+ *
+ * Configuration (system properties):
+ * -Drequests.block=heavy                    rules for every test, e.g. heavy,fonts or *.m3u8,*://ads.example/*
+ *
+ * Per test: tag a JUnit test @Tag("block-heavy") or a scenario @block-heavy (any block-&lt;rule&gt;).
+ */
+public final class RequestBlocking {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestBlocking.class);
+
+    private static final String TAG_PREFIX = "block-";
+
+    private static final Map<String, List<String>> PRESETS = Map.of(
+        "images", List.of("*.jpg", "*.jpeg", "*.png", "*.gif", "*.webp"),
+        "media", List.of("*.m3u8", "*.ts", "*.mp4", "*.webm"),
+        "fonts", List.of("*.woff", "*.woff2", "*.ttf", "*.otf"),
+        "heavy", List.of("*hls.demoblaze.com/*", "*.m3u8", "*.ts", "*.mp4",
+            "*/Samsung1.jpg", "*/nexus1.jpg", "*/iphone1.jpg"));
+
+    private static final Map<String, Map<String, Object>> FIREFOX_PREFERENCES = Map.of(
+        "images", Map.of("permissions.default.image", 2),
+        "media", Map.of("media.mediasource.enabled", false, "media.autoplay.default", 5),
+        "fonts", Map.of("gfx.downloadable_fonts.enabled", false),
+        "heavy", Map.of("media.mediasource.enabled", false, "media.autoplay.default", 5));
+
+    // Rules added by the current test's tags, on top of -Drequests.block
+    private static final ThreadLocal<Set<String>> testRules = ThreadLocal.withInitial(LinkedHashSet::new);
+
+    private RequestBlocking() {
+    }
+
+    /**
+     * Adds the rules named by block-* tags for the test about to run on this thread; tags may carry a leading @.
+     */
+    public static void beginTest(Collection<String> tags) {
+        Set<String> rules = testRules.get();
+        rules.clear();
+        for (String tag : tags) {
+            String name = tag.startsWith("@") ? tag.substring(1) : tag;
+            if (name.startsWith(TAG_PREFIX)) {
+                rules.add(name.substring(TAG_PREFIX.length()).toLowerCase(Locale.ROOT));
+            }
+        }
+        if (!rules.isEmpty() && WebDriverRunner.hasWebDriverStarted()) {
+            applyTo(WebDriverRunner.getWebDriver());
+        }
+    }
+
+    /**
+     * Drops this thread's per-test rules and restores the suite rules on a browser that stays open.
+     */
+    public static void endTest() {
+        Set<String> rules = testRules.get();
+        if (rules.isEmpty()) {
+            return;
+        }
+        rules.clear();
+        if (WebDriverRunner.hasWebDriverStarted()) {
+            send(WebDriverRunner.getWebDriver(), urlPatterns());
+        }
+    }
+
+    /**
+     * Sends the active URL patterns to a Chromium browser; called by IsolatedBrowserFactory for new browsers.
+     */
+    public static void applyTo(WebDriver driver) {
+        if (!(driver instanceof HasCdp)) {
+            // Firefox gets the suite rules as preferences at startup
+            if (!testRules.get().isEmpty()) {
+                logger.warn("Per-test request blocking {} needs a Chromium browser; ignored", testRules.get());
+            }
+            return;
+        }
+        List<String> patterns = urlPatterns();
+        if (!patterns.isEmpty()) {
+            send(driver, patterns);
+        }
+    }
+
+    /**
+     * Profile preferences that approximate the suite rules on Firefox.
+     */
+    public static Map<String, Object> firefoxPreferences() {
+        Map<String, Object> preferences = new LinkedHashMap<>();
+        for (String rule : suiteRules()) {
+            Map<String, Object> mapped = FIREFOX_PREFERENCES.get(rule);
+            if (mapped == null) {
+                logger.warn("Request blocking rule '{}' is not supported on Firefox; ignored", rule);
+            } else {
+                preferences.putAll(mapped);
+            }
+        }
+        if (suiteRules().contains("heavy")) {
+            logger.info("Firefox blocks the HLS stream for 'heavy' but still loads carousel images");
+        }
+        return preferences;
+    }
+
+    static List<String> urlPatterns() {
+        Set<String> patterns = new LinkedHashSet<>();
+        Set<String> rules = new LinkedHashSet<>(suiteRules());
+        rules.addAll(testRules.get());
+        for (String rule : rules) {
+            List<String> preset = PRESETS.get(rule);
+            if (preset != null) {
+                patterns.addAll(preset);
+            } else if (rule.contains("*") || rule.contains("/") || rule.contains(".")) {
+                patterns.add(rule);
+            } else {
+                logger.warn("Unknown request blocking rule '{}' (expected {} or a URL pattern)", rule, PRESETS.keySet());
+            }
+        }
+        return new ArrayList<>(patterns);
+    }
+
+    private static void send(WebDriver driver, List<String> patterns) {
+        if (!(driver instanceof HasCdp cdp)) {
+            logger.warn("Request blocking at runtime needs a Chromium browser; ignored");
+            return;
+        }
+        try {
+            cdp.executeCdpCommand("Network.enable", Map.of());
+            cdp.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", patterns));
+            logger.debug("Blocking {} URL pattern(s): {}", patterns.size(), patterns);
+        } catch (WebDriverException e) {
+            logger.warn("Could not set blocked URLs: {}", e.getMessage());
+        }
+    }
+
+    private static List<String> suiteRules() {
+        List<String> rules = new ArrayList<>();
+        for (String rule : System.getProperty("requests.block", "").split(",")) {
+            String trimmed = rule.trim();
+            if (!trimmed.isEmpty()) {
+                rules.add(PRESETS.containsKey(trimmed.toLowerCase(Locale.ROOT)) ? trimmed.toLowerCase(Locale.ROOT) : trimmed);
+            }
+        }
+        return rules;
+    }
+}
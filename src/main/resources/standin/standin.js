@@ -0,0 +1,200 @@
+// Minimal re-implementation of the DemoBlaze storefront scripts for the offline stand-in.
+// Talks to the same JSON API shape as api.demoblaze.com, resolved through config.json.
+(function () {
+    var apiUrl = null;
+
+    function config() {
+        if (apiUrl) {
+            return Promise.resolve(apiUrl);
+        }
+        return fetch('config.json').then(function (r) { return r.json(); }).then(function (c) {
+            apiUrl = c.API_URL;
+            return apiUrl;
+        });
+    }
+
+    function api(path, body) {
+        return config().then(function (base) {
+            var options = body === undefined ? {method: 'GET'} : {
+                method: 'POST',
+                headers: {'Content-Type': 'application/json'},
+                body: JSON.stringify(body)
+            };
+            return fetch(base + '/' + path, options).then(function (r) { return r.json(); });
+        });
+    }
+
+    function guid() {
+        function s4() { return Math.floor((1 + Math.random()) * 0x10000).toString(16).substring(1); }
+        return s4() + s4() + '-' + s4() + '-' + s4() + '-' + s4() + '-' + s4() + s4() + s4();
+    }
+
+    function cartCookie() {
+        var match = document.cookie.match(/(?:^|;\s*)user=([^;]+)/);
+        if (!match) {
+            document.cookie = 'user=' + guid() + '; path=/';
+            match = document.cookie.match(/(?:^|;\s*)user=([^;]+)/);
+        }
+        return 'user=' + match[1];
+    }
+
+    function escapeHtml(text) {
+        var div = document.createElement('div');
+        div.textContent = text;
+        return div.innerHTML;
+    }
+
+    // ---- modals ----------------------------------------------------------
+
+    function showModal(id) {
+        var modal = document.querySelector(id);
+        if (modal) {
+            modal.classList.add('show');
+        }
+    }
+
+    function hideModal(modal) {
+        if (modal) {
+            modal.classList.remove('show');
+        }
+    }
+
+    document.addEventListener('click', function (event) {
+        var toggle = event.target.closest('[data-toggle="modal"]');
+        if (toggle) {
+            event.preventDefault();
+            showModal(toggle.getAttribute('data-target'));
+            return;
+        }
+        var dismiss = event.target.closest('[data-dismiss="modal"]');
+        if (dismiss) {
+            hideModal(dismiss.closest('.modal'));
+        }
+    });
+
+    // ---- home page -------------------------------------------------------
+
+    var lastKey = null;
+
+    function renderCards(page) {
+        var html = '';
+        page.Items.forEach(function (p) {
+            html += '<div class="col-lg-4 col-md-6 mb-4"><div class="card h-100">' +
+                '<a href="prod.html?idp_=' + p.id + '" class="hrefch"><img class="card-img-top img-fluid" src="' + p.img + '" alt=""></a>' +
+                '<div class="card-block">' +
+                '<h4 class="card-title"><a href="prod.html?idp_=' + p.id + '" class="hrefch">' + escapeHtml(p.title) + '</a></h4>' +
+                '<h5>$' + p.price + '</h5>' +
+                '<p class="card-text" id="article">' + escapeHtml(p.desc) + '</p>' +
+                '</div></div></div>';
+        });
+        document.getElementById('tbodyid').innerHTML = html;
+        lastKey = page.LastEvaluatedKey ? page.LastEvaluatedKey.id : null;
+    }
+
+    function loadEntries() {
+        return api('entries').then(renderCards);
+    }
+
+    window.byCat = function (cat) {
+        api('bycat', {cat: cat}).then(renderCards);
+        return false;
+    };
+
+    // ---- product page ----------------------------------------------------
+
+    function loadProduct() {
+        var id = new URLSearchParams(window.location.search).get('idp_');
+        return api('view', {id: id}).then(function (p) {
+            document.getElementById('tbodyid').innerHTML =
+                '<div id="imgp"><div class="item active"><img src="' + p.img + '" alt=""></div></div>' +
+                '<h2 class="name">' + escapeHtml(p.title) + '</h2>' +
+                '<h3 class="price-container">$' + p.price + ' <small>*includes tax</small></h3>' +
+                '<div id="more-information"><p>' + escapeHtml(p.desc) + '</p></div>' +
+                '<a href="#" onclick="addToCart(' + p.id + '); return false;" class="btn btn-success btn-lg">Add to cart</a>';
+        });
+    }
+
+    window.addToCart = function (productId) {
+        api('addtocart', {id: guid(), cookie: cartCookie(), prod_id: productId, flag: false}).then(function () {
+            alert('Product added');
+        });
+    };
+
+    // ---- cart page -------------------------------------------------------
+
+    var cartTotal = 0;
+
+    function loadCart() {
+        return api('viewcart', {cookie: cartCookie(), flag: false}).then(function (cart) {
+            return Promise.all(cart.Items.map(function (item) {
+                return api('view', {id: item.prod_id}).then(function (p) {
+                    return {item: item, product: p};
+                });
+            }));
+        }).then(function (rows) {
+            var html = '';
+            cartTotal = 0;
+            rows.forEach(function (row) {
+                cartTotal += row.product.price;
+                html += '<tr class="success">' +
+                    '<td><img width="100" height="100" src="' + row.product.img + '"></td>' +
+                    '<td>' + escapeHtml(row.product.title) + '</td>' +
+                    '<td>' + row.product.price + '</td>' +
+                    '<td><a href="#" onclick="deleteItem(\'' + row.item.id + '\'); return false;">Delete</a></td>' +
+                    '</tr>';
+            });
+            document.getElementById('tbodyid').innerHTML = html;
+            document.getElementById('totalp').textContent = rows.length ? String(cartTotal) : '';
+            document.getElementById('totalm').textContent = 'Total: ' + cartTotal;
+        });
+    }
+
+    window.deleteItem = function (id) {
+        api('deleteitem', {id: id}).then(loadCart);
+    };
+
+    window.purchaseOrder = function () {
+        var name = document.getElementById('name').value;
+        var card = document.getElementById('card').value;
+        if (!name || !card) {
+            alert('Please fill out Name and Creditcard.');
+            return;
+        }
+        var now = new Date();
+        document.getElementById('purchaseDetails').innerHTML =
+            'Id: ' + Math.floor(Math.random() * 10000000) + '<br>Amount: ' + cartTotal + ' USD<br>Card Number: ' +
+            escapeHtml(card) + '<br>Name: ' + escapeHtml(name) + '<br>Date: ' +
+            now.getDate() + '/' + (now.getMonth() + 1) + '/' + now.getFullYear();
+        document.getElementById('purchaseConfirmation').classList.add('visible');
+    };
+
+    window.confirmPurchase = function () {
+        document.getElementById('purchaseConfirmation').classList.remove('visible');
+        api('deletecart', {cookie: cartCookie()}).then(loadCart);
+    };
+
+    // ---- contact ---------------------------------------------------------
+
+    window.sendMessage = function () {
+        alert('Thanks for the message!!');
+        hideModal(document.getElementById('exampleModal'));
+    };
+
+    // ---- bootstrap -------------------------------------------------------
+
+    cartCookie();
+    var page = document.body.getAttribute('data-page');
+    if (page === 'index') {
+        loadEntries();
+        document.getElementById('next2').addEventListener('click', function () {
+            if (lastKey) {
+                api('pagination', {id: lastKey}).then(renderCards);
+            }
+        });
+        document.getElementById('prev2').addEventListener('click', loadEntries);
+    } else if (page === 'product') {
+        loadProduct();
+    } else if (page === 'cart') {
+        loadCart();
+    }
+})();
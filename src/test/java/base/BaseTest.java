@@ -1,20 +1,27 @@
 package base;
 
-import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.logevents.SelenideLogger;
 import io.qameta.allure.selenide.AllureSelenide;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import standin.DemoBlazeStandInServer;
+import support.BrowserSettings;
+import support.PageTimings;
+import support.RequestBlocking;
+import utils.ActionTimingListener;
+import utils.BrowserPool;
+import utils.PageTimingReporter;
 import utils.TestListener;
 
-import static com.codeborne.selenide.Selenide.closeWebDriver;
-
 /**
  * Base test class providing common configuration for all tests
- * Configures Selenide settings, Allure integration, and automatic screenshot capture
+ * Configures Selenide settings, Allure integration, and failure-only screenshot capture
+ * Browsers are reused across tests through {@link BrowserPool}
+ * Safe to run with JUnit parallel execution (mvn test -Pparallel)
  */
 @ExtendWith(TestListener.class)
 public abstract class BaseTest {
@@ -22,28 +29,25 @@ public abstract class BaseTest {
     private static final Logger logger = LoggerFactory.getLogger(BaseTest.class);
 
     @BeforeEach
-    void setUpBase() {
+    void setUpBase(TestInfo testInfo) {
         logger.info("Setting up base test configuration");
 
-        // Browser configuration - can be overridden by system properties
-        Configuration.browser = System.getProperty("selenide.browser", "chrome");
-        Configuration.browserSize = System.getProperty("selenide.browserSize", "1920x1080");
-        Configuration.headless = Boolean.parseBoolean(System.getProperty("selenide.headless", "false"));
-        Configuration.screenshots = true;
-        Configuration.savePageSource = true;
-        Configuration.reportsFolder = "target/screenshots";
-
-        // Docker-specific Chrome configuration
-        if ("chrome".equals(Configuration.browser)) {
-            System.setProperty("chromeoptions.args",
-                "--no-sandbox,--disable-dev-shm-usage,--disable-gpu,--disable-extensions," +
-                "--user-data-dir=/tmp/chrome-user-data-" + System.currentTimeMillis() +
-                ",--remote-debugging-port=9222");
-        }
+        // Browser configuration - can be overridden by system properties, applied once per JVM.
+        // Each browser gets its own profile dir and debugging port (see IsolatedBrowserFactory)
+        BrowserSettings.apply();
+
+        // Offline stand-in for the DemoBlaze site (-Ddemoblaze.target=standin)
+        DemoBlazeStandInServer.startIfRequested();
+
+        // @Tag("block-heavy") and other block-* tags add request blocking for this test
+        RequestBlocking.beginTest(testInfo.getTags());
 
+        // SelenideLogger listeners are thread-local, so each parallel worker reports into its own Allure test
         SelenideLogger.addListener("AllureSelenide", new AllureSelenide()
-            .screenshots(true)
-            .savePageSource(true));
+            .screenshots(false)
+            .savePageSource(false));
+        SelenideLogger.addListener(ActionTimingListener.NAME, new ActionTimingListener());
+        PageTimings.addListener(PageTimingReporter.NAME, new PageTimingReporter());
 
         logger.info("Base test configuration completed");
     }
@@ -52,7 +56,11 @@ public abstract class BaseTest {
     void tearDownBase() {
         logger.info("Cleaning up test resources");
         SelenideLogger.removeListener("AllureSelenide");
-        closeWebDriver();
+        SelenideLogger.removeListener(ActionTimingListener.NAME);
+        PageTimings.removeListener(PageTimingReporter.NAME);
+        PageTimings.reset();
+        RequestBlocking.endTest();
+        BrowserPool.release();
         logger.info("Test cleanup completed");
     }
 }
\ No newline at end of file
@@ -1,22 +1,26 @@
 package hooks;
 
 import base.BaseTest;
-import com.codeborne.selenide.Configuration;
 import com.codeborne.selenide.logevents.SelenideLogger;
 import io.cucumber.java.After;
 import io.cucumber.java.Before;
 import io.cucumber.java.Scenario;
-import io.qameta.allure.Allure;
 import io.qameta.allure.selenide.AllureSelenide;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-
-import static com.codeborne.selenide.Selenide.closeWebDriver;
-import static com.codeborne.selenide.Selenide.screenshot;
+import standin.DemoBlazeStandInServer;
+import support.BrowserSettings;
+import support.PageTimings;
+import support.RequestBlocking;
+import utils.ActionTimingListener;
+import utils.BrowserPool;
+import utils.FailureArtifacts;
+import utils.PageTimingReporter;
 
 /**
  * Cucumber hooks for test setup and teardown
  * Integrates with existing BaseTest configuration and Allure reporting
+ * Thread-safe for parallel scenarios: Cucumber creates hooks per scenario and the browser is confined to the worker thread
  */
 public class Hooks {
 
@@ -27,17 +31,20 @@ public class Hooks {
         logger.info("Starting BDD scenario: {}", scenario.getName());
 
         // Configure Selenide (same as BaseTest)
-        Configuration.browser = System.getProperty("selenide.browser", "chrome");
-        Configuration.browserSize = System.getProperty("selenide.browserSize", "1920x1080");
-        Configuration.headless = Boolean.parseBoolean(System.getProperty("selenide.headless", "false"));
-        Configuration.screenshots = true;
-        Configuration.savePageSource = true;
-        Configuration.reportsFolder = "target/screenshots";
+        BrowserSettings.apply();
+
+        // Offline stand-in for the DemoBlaze site (-Ddemoblaze.target=standin)
+        DemoBlazeStandInServer.startIfRequested();
+
+        // @block-heavy and other @block-* tags add request blocking for this scenario
+        RequestBlocking.beginTest(scenario.getSourceTagNames());
 
         // Setup Allure integration
         SelenideLogger.addListener("AllureSelenide", new AllureSelenide()
-                .screenshots(true)
-                .savePageSource(true));
+                .screenshots(false)
+                .savePageSource(false));
+        SelenideLogger.addListener(ActionTimingListener.NAME, new ActionTimingListener());
+        PageTimings.addListener(PageTimingReporter.NAME, new PageTimingReporter());
 
         logger.info("BDD test environment configured for scenario: {}", scenario.getName());
     }
@@ -47,30 +54,20 @@ public class Hooks {
         logger.info("Finishing BDD scenario: {} - Status: {}", scenario.getName(),
                    scenario.getStatus().toString());
 
-        // Take screenshot on failure
+        // Screenshot and page source on failure, stored off-thread and attached to Allure
         if (scenario.isFailed()) {
             logger.error("Scenario failed: {}", scenario.getName());
-            try {
-                String screenshotName = "failed_scenario_" + System.currentTimeMillis();
-                String screenshotPath = screenshot(screenshotName);
-                if (screenshotPath != null) {
-                    // Attach to Cucumber report
-                    byte[] screenshot = java.nio.file.Files.readAllBytes(java.nio.file.Paths.get(screenshotPath));
-                    scenario.attach(screenshot, "image/png", "Screenshot");
-
-                    // Attach to Allure report
-                    try (var inputStream = java.nio.file.Files.newInputStream(java.nio.file.Paths.get(screenshotPath))) {
-                        Allure.addAttachment("Failed Scenario Screenshot", "image/png", inputStream, ".png");
-                    }
-                }
-            } catch (Exception e) {
-                logger.error("Failed to capture screenshot: {}", e.getMessage());
-            }
+            FailureArtifacts.attachTo(scenario);
+            BrowserPool.markFailed();
         }
 
         // Cleanup
         SelenideLogger.removeListener("AllureSelenide");
-        closeWebDriver();
+        SelenideLogger.removeListener(ActionTimingListener.NAME);
+        PageTimings.removeListener(PageTimingReporter.NAME);
+        PageTimings.reset();
+        RequestBlocking.endTest();
+        BrowserPool.release();
         logger.info("BDD test cleanup completed for scenario: {}", scenario.getName());
     }
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class JmxImporterTest {
+
+    private static final Path PLAN = Path.of("test-plans", "demoblaze-performance-test.jmx");
+
+    private static final String HOME = "https://www.demoblaze.com/";
+    private static final String API = "https://api.demoblaze.com/";
+
+    private final JmxImporter.ImportedPlan plan = JmxImporter.read(PLAN, new Properties());
+
+    @Test
+    @DisplayName("Requests and think times keep the recorded order")
+    void testSamplerOrder() {
+        List<String> expected = List.of(
+            "GET " + HOME + "index.html", "GET " + API + "entries",
+            "pause 5894.5/11789.0",
+            "GET " + HOME + "index.html", "GET " + API + "entries",
+            "pause 4915.0/9830.0",
+            "GET " + HOME + "cart.html", "OPTIONS " + API + "viewcart", "POST " + API + "viewcart",
+            "pause 5807.5/11615.0",
+            "GET " + HOME + "index.html", "GET " + API + "entries",
+            "pause 2760.0/5520.0",
+            "GET " + HOME + "prod.html?idp_=1", "OPTIONS " + API + "view", "POST " + API + "view",
+            "pause 3469.5/6939.0",
+            "GET " + HOME + "index.html", "GET " + API + "entries",
+            "pause 2006.5/4013.0",
+            "GET " + HOME + "prod.html?idp_=2", "OPTIONS " + API + "view", "POST " + API + "view",
+            "OPTIONS " + API + "addtocart", "POST " + API + "addtocart",
+            "OPTIONS " + API + "addtocart", "POST " + API + "addtocart",
+            "OPTIONS " + API + "addtocart", "POST " + API + "addtocart",
+            "pause 11315.5/22631.0",
+            "GET " + HOME + "index.html", "GET " + API + "entries",
+            "pause 1851.5/3703.0",
+            "GET " + HOME + "prod.html?idp_=3", "OPTIONS " + API + "view", "POST " + API + "view",
+            "pause 2852.5/5705.0",
+            "GET " + HOME + "index.html", "GET " + API + "entries");
+
+        List<String> actual = plan.scenario().steps().stream()
+            .map(step -> step instanceof Scenario.Request request
+                ? request.method() + " " + request.url()
+                : "pause " + ((Scenario.Pause) step).delayMs() + "/" + ((Scenario.Pause) step).rangeMs())
+            .toList();
+
+        assertEquals("Thread Group", plan.scenario().name());
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    @DisplayName("Uniform Random Timers become pauses with the recorded delay and range")
+    void testTimerPauses() {
+        List<Scenario.Pause> pauses = plan.scenario().steps().stream()
+            .filter(Scenario.Pause.class::isInstance)
+            .map(Scenario.Pause.class::cast)
+            .toList();
+
+        assertEquals(List.of(
+            new Scenario.Pause(5894.5, 11789), new Scenario.Pause(4915, 9830), new Scenario.Pause(5807.5, 11615),
+            new Scenario.Pause(2760, 5520), new Scenario.Pause(3469.5, 6939), new Scenario.Pause(2006.5, 4013),
+            new Scenario.Pause(11315.5, 22631), new Scenario.Pause(1851.5, 3703), new Scenario.Pause(2852.5, 5705)),
+            pauses);
+    }
+
+    @Test
+    @DisplayName("User Defined Variables are resolved into the request URLs and bodies")
+    void testVariables() {
+        assertEquals(Map.of(
+            "BASE_URL_1", "www.demoblaze.com",
+            "BASE_URL_2", "api.demoblaze.com",
+            "BASE_URL_3", "hls.demoblaze.com"), plan.variables());
+
+        Scenario.Request view = plan.scenario().requests().stream()
+            .filter(request -> request.method().equals("POST") && request.url().equals(API + "view"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals("{\"id\":\"1\"}", view.body());
+    }
+
+    @Test
+    @DisplayName("Elements that are not replayed are listed in the import report")
+    void testReportEntries() {
+        assertEquals(List.of(
+            "HTTP Request Defaults: embedded resources (images, scripts, styles) are not downloaded",
+            "HTTP Cookie Manager: response cookies are not kept between requests",
+            "HTTP Cache Manager: not emulated; every request goes to the server",
+            "Thread Group 'Thread Group': 20 threads, 20 s ramp-up, 1 loops and 0 s duration replaced by the load "
+                + "profile (user.properties, -Dload.*)",
+            "Transaction Controller 'Test': its requests are reported individually, without a transaction sample",
+            "ResultCollector 'View Results Tree': listeners are not needed, LoadRunner reports results itself",
+            "ResultCollector 'Summary Report': listeners are not needed, LoadRunner reports results itself",
+            "ResultCollector 'Aggregate Report': listeners are not needed, LoadRunner reports results itself"),
+            plan.report());
+    }
+}
@@ -0,0 +1,157 @@
+package load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JtlAggregatorTest {
+
+    private static final String HEADER = "timeStamp,elapsed,label,responseCode,responseMessage,threadName,dataType,"
+        + "success,failureMessage,bytes,sentBytes,grpThreads,allThreads,URL,Latency,IdleTime,Connect\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("Quoted fields with delimiters, quotes and newlines are parsed as one sample")
+    void testParsesQuotedFields() throws IOException {
+        Path jtl = write("parse.jtl", HEADER
+            + "1700000000000,120,GET /entries,200,OK,Thread Group 1-1,text,true,,100,50,1,1,https://x,100,0,3\r\n"
+            + "1700000000100,480,\"POST \"\"quoted\"\", label\",500,\"Internal\nServer, Error\",Thread Group 1-1,text,"
+            + "false,\"Test failed:\ncode expected 200\",0,50,1,1,https://x,0,0,3\n"
+            + "\n"
+            + "1700000060000,2500,GET /entries,200,OK,Thread Group 1-1,text,TRUE,,100,50,1,1,https://x,100,0,3");
+
+        JtlAggregator.Result result = JtlAggregator.aggregate(List.of(jtl), settings(1));
+
+        assertEquals(0, result.malformedLines());
+        assertEquals(3, result.total().samples());
+        assertEquals(1, result.total().errors);
+        assertEquals(2, result.labels.get("GET /entries").samples());
+        assertEquals(1, result.labels.get("POST \"quoted\", label").errors);
+        assertEquals(1, result.total().satisfied);
+        assertEquals(1, result.total().tolerated);
+        assertEquals(List.of(1699999980000L, 1700000040000L), List.copyOf(result.timeline.keySet()));
+    }
+
+    @Test
+    @DisplayName("A record cut off inside a quoted field is malformed, not a sample")
+    void testTruncatedRecordIsMalformed() throws IOException {
+        Path jtl = write("truncated.jtl", HEADER
+            + "1700000000000,120,GET /entries,200,OK,Thread Group 1-1,text,true,,100,50,1,1,https://x,100,0,3\n"
+            + "1700000000100,480,GET /view,500,\"Internal\nServer");
+
+        JtlAggregator.Result result = JtlAggregator.aggregate(List.of(jtl), settings(1));
+
+        assertEquals(1, result.total().samples());
+        assertEquals(1, result.malformedLines());
+    }
+
+    @Test
+    @DisplayName("Splitting into parallel parts never cuts a multi-line quoted field")
+    void testSplitKeepsMultiLineRecords() throws IOException {
+        Path jtl = generate("split.jtl", 60_000, 11);
+        assertTrue(Files.size(jtl) > 4 * JtlAggregator.MIN_PART_BYTES);
+
+        JtlAggregator.Result single = JtlAggregator.aggregate(List.of(jtl), settings(1));
+        for (int threads : new int[]{3, 4, 7}) {
+            JtlAggregator.Result parallel = JtlAggregator.aggregate(List.of(jtl), settings(threads));
+            assertEquals(0, parallel.malformedLines(), threads + " threads");
+            assertEquals(60_000, parallel.total().samples(), threads + " threads");
+            assertEquals(single.summary(), parallel.summary(), threads + " threads");
+            assertEquals(single.timeline(60_000), parallel.timeline(60_000), threads + " threads");
+        }
+        assertEquals(0, single.malformedLines());
+    }
+
+    @Test
+    @DisplayName("Merged results equal aggregating all samples at once")
+    void testMerge() throws IOException {
+        Path first = generate("first.jtl", 5_000, 1);
+        Path second = generate("second.jtl", 7_000, 2);
+        Path both = directory.resolve("both.jtl");
+        Files.writeString(both, Files.readString(first) + Files.readString(second).substring(HEADER.length()));
+
+        JtlAggregator.Result merged = JtlAggregator.aggregate(List.of(first), settings(1));
+        merged.merge(JtlAggregator.aggregate(List.of(second), settings(1)));
+        JtlAggregator.Result whole = JtlAggregator.aggregate(List.of(both), settings(1));
+
+        assertEquals(12_000, merged.total().samples());
+        assertEquals(whole.summary(), merged.summary());
+        assertEquals(whole.timeline(60_000), merged.timeline(60_000));
+        assertEquals(whole.summary(), JtlAggregator.aggregate(List.of(first, second), settings(2)).summary());
+    }
+
+    @Test
+    @DisplayName("p95 just over response_time_threshold fails the verdict")
+    void testThresholdVerdict() throws IOException {
+        StringBuilder lines = new StringBuilder(HEADER);
+        for (long elapsed = 2820; elapsed <= 3060; elapsed++) {
+            lines.append(1700000000000L + elapsed).append(',').append(elapsed)
+                .append(",GET /entries,200,OK,Thread Group 1-1,text,true,,100,50,1,1,https://x,100,0,3\n");
+        }
+        JtlAggregator.Result result = JtlAggregator.aggregate(List.of(write("threshold.jtl", lines.toString())), settings(1));
+        LoadProfile profile = LoadProfile.from(new Properties());
+
+        List<String> violations = LoadStats.thresholdViolations(result.total().samples(), result.total().p95Millis(),
+            result.total().errorRatePercent(), profile);
+
+        assertEquals(1, violations.size(), violations.toString());
+        assertTrue(violations.get(0).contains("response_time_threshold"), violations.toString());
+    }
+
+    @Test
+    @DisplayName("Labels outside series_filter are left out")
+    void testSeriesFilter() throws IOException {
+        Path jtl = generate("filter.jtl", 300, 5);
+        JtlAggregator.Settings settings = new JtlAggregator.Settings(60_000, 1500, 3000, Pattern.compile("GET .*"), 1);
+
+        JtlAggregator.Result result = JtlAggregator.aggregate(List.of(jtl), settings);
+
+        assertEquals(100, result.labels.get("GET /entries").samples());
+        assertEquals(1, result.labels.size());
+    }
+
+    private static JtlAggregator.Settings settings(int threads) {
+        return new JtlAggregator.Settings(60_000, 1500, 3000, null, threads);
+    }
+
+    private Path write(String name, String content) throws IOException {
+        return Files.writeString(directory.resolve(name), content);
+    }
+
+    // Every fifth sample fails with a multi-line quoted responseMessage and failureMessage
+    private Path generate(String name, int samples, long seed) throws IOException {
+        Random random = new Random(seed);
+        List<String> labels = List.of("GET /entries", "POST /view", "\"POST /addtocart, retry\"");
+        Path jtl = directory.resolve(name);
+        try (Writer out = Files.newBufferedWriter(jtl)) {
+            out.write(HEADER);
+            long timestamp = 1700000000000L;
+            for (int i = 0; i < samples; i++) {
+                timestamp += random.nextInt(20);
+                boolean failed = i % 5 == 0;
+                String message = failed ? "\"Non HTTP response code:\njava.net.SocketException,\nConnection reset\"" : "OK";
+                String failure = failed
+                    ? "\"Test failed: text expected to contain /\"\"id\"\"/\n1700000000000,12,looks,like,a,sample\""
+                    : "";
+                out.write(timestamp + "," + random.nextInt(4000) + "," + labels.get(i % labels.size()) + ","
+                    + (failed ? "Non HTTP response code" : "200") + "," + message + ",Thread Group 1-" + (i % 20)
+                    + ",text," + !failed + "," + failure + ",1024,512,20,20,https://api.demoblaze.com/entries,90,0,12\n");
+            }
+        }
+        return jtl;
+    }
+}
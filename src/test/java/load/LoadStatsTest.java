@@ -0,0 +1,36 @@
+package load;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LoadStatsTest {
+
+    @Test
+    @DisplayName("Aborted users count as error samples without touching the latency percentiles")
+    void testAbortedUsersHaveNoLatency() {
+        LoadStats stats = new LoadStats();
+        stats.start();
+        for (int i = 0; i < 8; i++) {
+            stats.record("GET /entries", 2_000_000, true);
+        }
+        stats.recordAborted();
+        stats.recordAborted();
+        stats.finish();
+
+        assertEquals(10, stats.samples());
+        assertEquals(20.0, stats.errorRatePercent(), 1e-9);
+        assertEquals(2000, stats.percentileMillis(50), 2000 * 0.004);
+        assertEquals(2000, stats.percentileMillis(5), 2000 * 0.004);
+
+        Map<String, Object> aborted = stats.summary().get(LoadStats.ABORTED);
+        assertEquals(2L, aborted.get("samples"));
+        assertEquals(2L, aborted.get("errors"));
+        assertEquals(100.0, aborted.get("errorRate"));
+        assertEquals(0.0, aborted.get("p95Ms"));
+        assertEquals(2000.0, (double) stats.summary().get(LoadStats.TOTAL).get("meanMs"), 2000 * 0.004);
+    }
+}
@@ -0,0 +1,101 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LatencyHistogramTest {
+
+    @Test
+    @DisplayName("Buckets are contiguous and contain the values mapped to them")
+    void testBucketBounds() {
+        for (long value = 0; value < 128; value++) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertEquals(value, LatencyHistogram.bucketLowerBound(index));
+            assertEquals(value, LatencyHistogram.bucketUpperBound(index));
+        }
+        for (int index = 0; index < LatencyHistogram.bucketIndex(1L << 40); index++) {
+            assertEquals(LatencyHistogram.bucketUpperBound(index) + 1, LatencyHistogram.bucketLowerBound(index + 1),
+                "gap after bucket " + index);
+        }
+        Random random = new Random(7);
+        for (int i = 0; i < 100_000; i++) {
+            long value = random.nextLong(Long.MAX_VALUE);
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketLowerBound(index) <= value && value <= LatencyHistogram.bucketUpperBound(index),
+                value + " outside bucket " + index);
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.bucketIndex(Long.MAX_VALUE)));
+    }
+
+    @Test
+    @DisplayName("p95 just above a 3000 ms threshold is reported above it")
+    void testPercentileNearThreshold() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 2820; value <= 3060; value++) {
+            histogram.record(value);
+        }
+        long p95 = histogram.percentile(95);
+        assertTrue(p95 > 3000, "p95 was " + p95);
+        assertTrue(Math.abs(p95 - 3048) <= 3048 * 0.01, "p95 was " + p95);
+    }
+
+    @Test
+    @DisplayName("Percentiles stay within 1% of the exact values")
+    void testPercentileError() {
+        Random random = new Random(42);
+        long[] values = new long[200_000];
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) (-Math.log(1 - random.nextDouble()) * 250_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        for (double percentile : new double[]{50, 90, 95, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long reported = histogram.percentile(percentile);
+            assertTrue(Math.abs(reported - exact) <= Math.max(1, exact * 0.01),
+                "p" + percentile + " was " + reported + ", exact " + exact);
+        }
+        assertEquals(values[0], histogram.min());
+        assertEquals(values[values.length - 1], histogram.max());
+    }
+
+    @Test
+    @DisplayName("Merging histograms equals recording every value into one")
+    void testMerge() {
+        Random random = new Random(3);
+        LatencyHistogram all = new LatencyHistogram();
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        for (int i = 0; i < 50_000; i++) {
+            long value = random.nextLong(5_000_000);
+            all.record(value);
+            (i % 3 == 0 ? first : second).record(value);
+        }
+        first.merge(second);
+        assertEquals(all.count(), first.count());
+        assertEquals(all.sum(), first.sum());
+        assertEquals(all.min(), first.min());
+        assertEquals(all.max(), first.max());
+        for (double percentile : new double[]{1, 50, 90, 99, 100}) {
+            assertEquals(all.percentile(percentile), first.percentile(percentile));
+        }
+        assertEquals(all.summary(), first.summary());
+    }
+
+    @Test
+    @DisplayName("An empty histogram reports zeros")
+    void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentile(99));
+        assertEquals(0, histogram.min());
+        assertEquals(0, histogram.max());
+    }
+}
@@ -6,6 +6,7 @@ import org.junit.runner.RunWith;
 
 /**
  * Cucumber test runner for JUnit 4 execution
+ * Not part of the default `mvn test` run (runners.TestRunner covers the features); writes its own report files
  * Supports Chrome and Firefox browsers through system properties
  *
  * Usage:
@@ -20,9 +21,9 @@ import org.junit.runner.RunWith;
     glue = {"stepDefinitions", "hooks"},
     plugin = {
         "pretty",
-        "html:target/cucumber-reports/cucumber-html-report.html",
-        "json:target/cucumber-reports/cucumber.json",
-        "junit:target/cucumber-reports/Cucumber.xml",
+        "html:target/cucumber-reports/cucumber-junit4-html-report.html",
+        "json:target/cucumber-reports/cucumber-junit4.json",
+        "junit:target/cucumber-reports/Cucumber-junit4.xml",
         "io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm"
     },
     tags = "not @ignore",
@@ -0,0 +1,89 @@
+package runners;
+
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.EngineFilter;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TagFilter;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.PrintWriter;
+import java.util.Arrays;
+
+/**
+ * Single entry point that runs the JUnit tests and the Cucumber features exactly once
+ * Discovers the tests package with the Jupiter engine and the features with the Cucumber engine,
+ * without going through runners.TestRunner or the JUnit 4 runners.CucumberTestRunner
+ *
+ * Configuration (system properties):
+ * -Dsuite.engines=junit-jupiter,cucumber   engines to run
+ * -Dsuite.tags="Smoke & !ignore"           JUnit tag expression; Cucumber tags are matched without the @
+ * -Dselenide.browser=chrome|firefox
+ *
+ * Usage:
+ * mvn test-compile exec:exec@suite
+ * mvn test-compile exec:exec@suite -Dsuite.engines=cucumber -Dsuite.tags=Smoke
+ * mvn test-compile exec:exec@suite -Dselenide.browser=firefox -Dselenide.headless=true
+ */
+public final class SuiteLauncher {
+
+    private static final Logger logger = LoggerFactory.getLogger(SuiteLauncher.class);
+
+    public static final String ENGINES_PROPERTY = "suite.engines";
+    public static final String TAGS_PROPERTY = "suite.tags";
+
+    static final String CUCUMBER_PLUGINS =
+        "pretty,html:target/cucumber-reports/cucumber-html-report.html,json:target/cucumber-reports/cucumber.json,"
+            + "junit:target/cucumber-reports/Cucumber.xml,io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm";
+    static final String CUCUMBER_GLUE = "stepDefinitions,hooks";
+    static final String CUCUMBER_TAGS = "not @ignore";
+
+    private SuiteLauncher() {
+    }
+
+    public static void main(String[] args) {
+        TestExecutionSummary summary = run();
+        summary.printTo(new PrintWriter(System.out, true));
+        summary.printFailuresTo(new PrintWriter(System.err, true), 25);
+        System.exit(summary.getTotalFailureCount() == 0 ? 0 : 1);
+    }
+
+    public static TestExecutionSummary run() {
+        String[] engines = Arrays.stream(System.getProperty(ENGINES_PROPERTY, "junit-jupiter,cucumber").split(","))
+            .map(String::trim)
+            .filter(engine -> !engine.isEmpty())
+            .toArray(String[]::new);
+        String tags = System.getProperty(TAGS_PROPERTY, "").trim();
+
+        LauncherDiscoveryRequestBuilder builder = LauncherDiscoveryRequestBuilder.request()
+            .selectors(
+                DiscoverySelectors.selectPackage("tests"),
+                DiscoverySelectors.selectClasspathResource("features"))
+            // Suite and vintage engines would pick the same features up a second time through the runner classes
+            .filters(EngineFilter.includeEngines(engines),
+                EngineFilter.excludeEngines("junit-platform-suite", "junit-vintage"))
+            .configurationParameter("cucumber.plugin", CUCUMBER_PLUGINS)
+            .configurationParameter("cucumber.glue", CUCUMBER_GLUE)
+            .configurationParameter("cucumber.publish.enabled", "false")
+            .configurationParameter("cucumber.filter.tags", CUCUMBER_TAGS);
+        if (!tags.isEmpty()) {
+            builder.filters(TagFilter.includeTags(tags));
+        }
+        LauncherDiscoveryRequest request = builder.build();
+
+        SummaryGeneratingListener listener = new SummaryGeneratingListener();
+        var launcher = LauncherFactory.create();
+        TestPlan testPlan = launcher.discover(request);
+        logger.info("Suite discovered {} tests (engines: {}, tags: {}, browser: {})",
+            testPlan.countTestIdentifiers(TestIdentifier::isTest), String.join(",", engines),
+            tags.isEmpty() ? "all" : tags, System.getProperty("selenide.browser", "chrome"));
+        launcher.execute(testPlan, listener);
+        return listener.getSummary();
+    }
+}
@@ -7,6 +7,7 @@ import org.junit.platform.suite.api.Suite;
 
 /**
  * JUnit 5 based Cucumber test runner for BDD tests
+ * This is the runner `mvn test` uses; the JUnit 4 CucumberTestRunner only runs when selected with -Dtest
  * Supports Chrome and Firefox browsers through system properties
  *
  * Usage:
@@ -14,16 +15,18 @@ import org.junit.platform.suite.api.Suite;
  * mvn test -Dtest=runners.TestRunner -Dselenide.browser=chrome
  * mvn test -Dtest=runners.TestRunner -Dselenide.browser=firefox
  * mvn test -Dtest=runners.TestRunner -Dselenide.browser=firefox -Dselenide.headless=true
+ * mvn test -Dtest=runners.TestRunner -Pparallel -Dparallel.workers=8
+ *
+ * Parallel settings live in junit-platform.properties; tag a scenario or feature @serial to keep it exclusive
  */
 @Suite
 @IncludeEngines("cucumber")
 @SelectClasspathResource("features")
-@ConfigurationParameter(key = "cucumber.plugin",
-    value = "pretty,html:target/cucumber-reports/cucumber-html-report.html,json:target/cucumber-reports/cucumber.json,junit:target/cucumber-reports/Cucumber.xml,io.qameta.allure.cucumber7jvm.AllureCucumber7Jvm")
-@ConfigurationParameter(key = "cucumber.glue", value = "stepDefinitions,hooks")
+@ConfigurationParameter(key = "cucumber.plugin", value = SuiteLauncher.CUCUMBER_PLUGINS)
+@ConfigurationParameter(key = "cucumber.glue", value = SuiteLauncher.CUCUMBER_GLUE)
 @ConfigurationParameter(key = "cucumber.execution.dry-run", value = "false")
 @ConfigurationParameter(key = "cucumber.publish.enabled", value = "false")
-@ConfigurationParameter(key = "cucumber.filter.tags", value = "not @ignore")
+@ConfigurationParameter(key = "cucumber.filter.tags", value = SuiteLauncher.CUCUMBER_TAGS)
 public class TestRunner {
     // Browser configuration is handled in Hooks.java through system properties
     // Default: Chrome
@@ -2,13 +2,17 @@ package stepDefinitions;
 
 import io.cucumber.java.en.*;
 import io.qameta.allure.Step;
+import data.TestData;
 import pages.CartPage;
 import pages.HomePage;
 import pages.ProductDetailsPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import support.Alerts;
+import support.CartApi;
+
+import java.time.Duration;
 
-import static com.codeborne.selenide.Selenide.switchTo;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -41,15 +45,11 @@ public class CartSteps {
     @Step("Verify success alert message: {expectedMessage}")
     public void i_should_see_success_alert(String expectedMessage) {
         logger.info("BDD Step: Verifying success alert: {}", expectedMessage);
-        // Handle the alert and verify message
-        try {
-            String alertText = switchTo().alert().getText();
-            assertEquals(expectedMessage, alertText, "Alert message should match expected");
-            switchTo().alert().accept();
-        } catch (Exception e) {
-            logger.error("Failed to handle alert: {}", e.getMessage());
-            fail("Expected alert was not present");
-        }
+        // Wait for the alert, then read and accept it
+        String alertText = Alerts.acceptIfPresent(Duration.ofMillis(TestData.Timeouts.ALERT_TIMEOUT_MS))
+            .map(Alerts.AcceptedAlert::text)
+            .orElseGet(() -> fail("Expected alert was not present"));
+        assertEquals(expectedMessage, alertText, "Alert message should match expected");
     }
 
     @When("I navigate to cart page")
@@ -79,10 +79,8 @@ public class CartSteps {
         logger.info("BDD Step: Adding {} to cart", productName);
         homePage.clickOnFirstProduct(productName);
         productDetailsPage.addToCart();
-        // Handle alert
-        try {
-            switchTo().alert().accept();
-        } catch (Exception e) {
+        // Wait for the "Product added" alert so the cart request has completed before navigating away
+        if (Alerts.acceptIfPresent(Duration.ofMillis(TestData.Timeouts.ALERT_TIMEOUT_MS)).isEmpty()) {
             logger.warn("No alert to handle");
         }
         homePage.openHomePage();
@@ -92,16 +90,15 @@ public class CartSteps {
     @Step("Verify cart total reflects multiple products")
     public void the_cart_total_should_reflect_both_products() {
         logger.info("BDD Step: Verifying cart total for multiple products");
-        cartPage.verifyCartTotal();
-        // Additional verification for multiple products total could be added here
-        assertTrue(true, "Cart total should reflect multiple products");
+        cartPage.verifyTotalMatchesItems(2);
     }
 
     @Given("I have {string} in my cart")
     @Step("Add {productName} to cart as precondition")
     public void i_have_in_my_cart(String productName) {
         logger.info("BDD Step: Adding {} to cart as precondition", productName);
-        i_add_to_cart(productName);
+        // Seeded through the API with the browser's cart cookie; "I add ... to cart" covers the UI flow
+        CartApi.addProduct(productName);
     }
 
     @When("I remove {string} from cart")
@@ -115,16 +112,15 @@ public class CartSteps {
     @Step("Verify {productName} is not in cart")
     public void should_not_be_in_the_cart(String productName) {
         logger.info("BDD Step: Verifying {} is not in cart", productName);
-        // This would need to be implemented in CartPage
-        assertTrue(true, productName + " should not be in cart");
+        cartPage.verifyProductNotInCart(productName);
     }
 
     @Then("the cart should be empty or show updated total")
     @Step("Verify cart is empty or shows updated total")
     public void the_cart_should_be_empty_or_show_updated_total() {
         logger.info("BDD Step: Verifying cart is empty or shows updated total");
-        // Implementation depends on cart behavior after item removal
-        assertTrue(true, "Cart should be empty or show updated total");
+        // Either the cart is empty with no total, or the total reflects the remaining items
+        cartPage.verifyTotalMatchesItems(0);
     }
 
     @When("I navigate to cart page without adding products")
@@ -138,16 +134,14 @@ public class CartSteps {
     @Step("Verify cart is empty")
     public void i_should_see_an_empty_cart() {
         logger.info("BDD Step: Verifying cart is empty");
-        // Implementation would check for empty cart indicators
-        assertTrue(true, "Cart should be empty");
+        cartPage.verifyCartEmpty();
     }
 
     @Then("the total should show appropriate message or zero")
     @Step("Verify cart total shows appropriate empty state")
     public void the_total_should_show_appropriate_message_or_zero() {
         logger.info("BDD Step: Verifying cart total for empty cart");
-        // Implementation would verify empty cart total display
-        assertTrue(true, "Cart total should show appropriate empty state");
+        cartPage.verifyTotalMatchesItems(0);
     }
 
     @When("I navigate to different pages")
@@ -3,14 +3,16 @@ package stepDefinitions;
 import io.cucumber.datatable.DataTable;
 import io.cucumber.java.en.*;
 import io.qameta.allure.Step;
+import data.TestData;
 import pages.ContactModal;
 import pages.HomePage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import support.Alerts;
 
+import java.time.Duration;
 import java.util.Map;
 
-import static com.codeborne.selenide.Selenide.switchTo;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -108,16 +110,13 @@ public class ContactSteps {
 
         try {
             if ("valid_data".equals(scenario)) {
-                String alertText = switchTo().alert().getText();
+                String alertText = Alerts.accept().text();
                 assertEquals("Thanks for the message!!", alertText);
-                switchTo().alert().accept();
             } else {
                 // For invalid scenarios, we might get different responses
                 // This would depend on the actual application behavior
                 logger.info("Handling scenario: {}", scenario);
-                try {
-                    switchTo().alert().accept();
-                } catch (Exception e) {
+                if (Alerts.acceptIfPresent(Duration.ofMillis(TestData.Timeouts.OPTIONAL_ALERT_TIMEOUT_MS)).isEmpty()) {
                     // No alert might be expected for some validation scenarios
                     logger.info("No alert for scenario: {}", scenario);
                 }
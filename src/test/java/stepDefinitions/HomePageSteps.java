@@ -81,8 +81,7 @@ public class HomePageSteps {
     @Step("Verify product listings are displayed")
     public void i_should_see_product_listings() {
         logger.info("BDD Step: Verifying product listings");
-        // Products are verified in individual steps
-        assertTrue(true, "Product listings should be visible");
+        homePage.verifyProductListings();
     }
 
     @Then("I should see {string} product with price {string}")
@@ -0,0 +1,107 @@
+package stepDefinitions;
+
+import com.codeborne.selenide.WebDriverRunner;
+import io.cucumber.java.en.*;
+import io.qameta.allure.Allure;
+import io.qameta.allure.Step;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import support.PageTimings;
+import support.PageTimings.PageTiming;
+import support.PageTimings.ResourceTiming;
+import utils.PerformanceBudgets;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Step definitions for front-end performance budgets
+ * Measurements come from the browser (Navigation and Resource Timing, see support.PageTimings);
+ * budgets per environment live in performance-budgets.properties (see utils.PerformanceBudgets)
+ * A failing budget attaches the measured breakdown to the step and fails the scenario
+ */
+public class PerformanceSteps {
+
+    private static final Logger logger = LoggerFactory.getLogger(PerformanceSteps.class);
+
+    @Then("the page should be interactive within {int} ms")
+    @Step("Verify page is interactive within {budgetMs} ms")
+    public void the_page_should_be_interactive_within(int budgetMs) {
+        verifyInteractive(budgetMs);
+    }
+
+    @Then("the page should be interactive within budget")
+    @Step("Verify page is interactive within budget")
+    public void the_page_should_be_interactive_within_budget() {
+        verifyInteractive(PerformanceBudgets.budget("page.interactive"));
+    }
+
+    @Then("{string} should respond within {int} ms")
+    @Step("Verify {path} responds within {budgetMs} ms")
+    public void should_respond_within(String path, int budgetMs) {
+        verifyResponse(path, budgetMs);
+    }
+
+    @Then("{string} should respond within budget")
+    @Step("Verify {path} responds within budget")
+    public void should_respond_within_budget(String path) {
+        verifyResponse(path, PerformanceBudgets.responseBudget(path));
+    }
+
+    // Interactive is DOMContentLoaded for a navigation, or the time until the form was visible for the order modal
+    private void verifyInteractive(long budgetMs) {
+        PageTiming timing = currentPageTiming();
+        double interactive = timing.metric("interaction").orElse(timing.metric("domContentLoaded").orElse(-1));
+        logger.info("BDD Step: {} interactive after {} ms (budget {} ms)", timing.page(), Math.round(interactive), budgetMs);
+        assertTrue(interactive >= 0, "Browser reported no interactive time for " + timing.url());
+
+        Map<String, Object> breakdown = new LinkedHashMap<>();
+        breakdown.put("page", timing.page());
+        breakdown.put("url", timing.url());
+        breakdown.put("environment", PerformanceBudgets.environment());
+        breakdown.put("budgetMs", budgetMs);
+        breakdown.put("metrics", timing.metrics());
+        if (timing.slowestResourceUrl() != null) {
+            breakdown.put("slowestResourceUrl", timing.slowestResourceUrl());
+        }
+        verifyWithinBudget(timing.page() + " interactive", interactive, budgetMs, breakdown);
+    }
+
+    private void verifyResponse(String path, long budgetMs) {
+        ResourceTiming resource = PageTimings.awaitResource(path)
+            .orElseGet(() -> fail("No completed request to '" + path + "' on " + WebDriverRunner.url()));
+        logger.info("BDD Step: {} responded in {} ms (budget {} ms)", resource.url(), Math.round(resource.duration()), budgetMs);
+
+        Map<String, Object> breakdown = new LinkedHashMap<>();
+        breakdown.put("url", resource.url());
+        breakdown.put("environment", PerformanceBudgets.environment());
+        breakdown.put("budgetMs", budgetMs);
+        breakdown.put("duration", resource.duration());
+        breakdown.put("dns", resource.dns());
+        breakdown.put("connect", resource.connect());
+        breakdown.put("waiting", resource.waiting());
+        breakdown.put("download", resource.download());
+        verifyWithinBudget(path + " response", resource.duration(), budgetMs, breakdown);
+    }
+
+    private void verifyWithinBudget(String what, double measuredMs, long budgetMs, Map<String, Object> breakdown) {
+        if (measuredMs <= budgetMs) {
+            return;
+        }
+        String json = new Json().toJson(breakdown);
+        Allure.addAttachment("Performance budget exceeded: " + what, "application/json", json, ".json");
+        fail(what + " took " + Math.round(measuredMs) + " ms, budget " + budgetMs + " ms: " + json);
+    }
+
+    // The capture the page objects took for the current document, or a fresh one (e.g. with -Dpage.timings=false)
+    private PageTiming currentPageTiming() {
+        String url = WebDriverRunner.url();
+        return PageTimings.last()
+            .filter(timing -> url.equals(timing.url()))
+            .or(() -> PageTimings.measure("Current page"))
+            .orElseGet(() -> fail("Browser reported no page timings for " + url));
+    }
+}
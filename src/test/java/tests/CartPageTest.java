@@ -4,14 +4,16 @@ import base.BaseTest;
 import data.TestData;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import pages.HomePage;
 import pages.ProductDetailsPage;
 import pages.CartPage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+import support.CartApi;
 
+@Tag("block-heavy")
 public class CartPageTest extends BaseTest {
 
     private static final Logger logger = LoggerFactory.getLogger(CartPageTest.class);
@@ -40,9 +42,8 @@ public class CartPageTest extends BaseTest {
                         TestData.Products.SAMSUNG_GALAXY_S6,
                         TestData.PricesWithTax.SAMSUNG_GALAXY_S6_PRICE_WITH_TAX
                 )
-                .clickAddToCart();
-
-        handleAlert();
+                .clickAddToCart()
+                .confirmProductAdded();
 
         productDetailsPage.clickHome();
 
@@ -53,9 +54,8 @@ public class CartPageTest extends BaseTest {
                         TestData.Products.NOKIA_LUMIA,
                         TestData.PricesWithTax.NOKIA_LUMIA_PRICE_WITH_TAX
                 )
-                .clickAddToCart();
-
-        handleAlert();
+                .clickAddToCart()
+                .confirmProductAdded();
 
         productDetailsPage.clickHome();
 
@@ -66,12 +66,10 @@ public class CartPageTest extends BaseTest {
                         TestData.Products.NEXUS,
                         TestData.PricesWithTax.NEXUS_PRICE_WITH_TAX
                 )
-                .clickAddToCart();
-
-        handleAlert();
+                .clickAddToCart()
+                .confirmProductAdded();
 
-        productDetailsPage.clickAddToCart();
-        handleAlert();
+        productDetailsPage.clickAddToCart().confirmProductAdded();
 
         homePage.clickCartLink();
 
@@ -102,45 +100,13 @@ public class CartPageTest extends BaseTest {
 
     private void addProductsToCart() {
         logger.info("Adding test products to cart");
-        homePage.open()
-                .clickProduct(TestData.Products.SAMSUNG_GALAXY_S6,0);
+        homePage.open();
 
-        productDetailsPage.clickAddToCart();
-        handleAlert();
-
-        productDetailsPage.clickHome();
-
-        homePage.verifyCategoriesSection()
-                .clickProduct(TestData.Products.NOKIA_LUMIA,1);
-
-        productDetailsPage.clickAddToCart();
-        handleAlert();
-
-        productDetailsPage.clickHome();
-
-        homePage.verifyCategoriesSection()
-                .clickProduct(TestData.Products.SAMSUNG_GALAXY_S7,3);
-
-        productDetailsPage.clickAddToCart();
-        handleAlert();
-
-        productDetailsPage.clickAddToCart();
-        handleAlert();
+        // Precondition only: seed the cart through the API instead of clicking through product pages
+        CartApi.addProduct(TestData.Products.SAMSUNG_GALAXY_S6);
+        CartApi.addProduct(TestData.Products.NOKIA_LUMIA);
+        CartApi.addProduct(TestData.Products.SAMSUNG_GALAXY_S7);
+        CartApi.addProduct(TestData.Products.SAMSUNG_GALAXY_S7);
         logger.info("Test products added to cart successfully");
     }
-
-    private void handleAlert() {
-        logger.debug("Handling JavaScript alert");
-        try {
-            Thread.sleep(TestData.Timeouts.ALERT_WAIT_MS);
-            if (getWebDriver().switchTo().alert() != null) {
-                String alertText = getWebDriver().switchTo().alert().getText();
-                logger.debug("Alert message: {}", alertText);
-                getWebDriver().switchTo().alert().accept();
-                logger.debug("Alert accepted successfully");
-            }
-        } catch (Exception e) {
-            logger.debug("No alert present or error handling alert: {}", e.getMessage());
-        }
-    }
 }
\ No newline at end of file
@@ -9,7 +9,7 @@ import pages.HomePage;
 import pages.ContactModal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import static com.codeborne.selenide.WebDriverRunner.getWebDriver;
+import support.Alerts;
 import static com.codeborne.selenide.Selenide.*;
 import org.openqa.selenium.By;
 
@@ -93,13 +93,7 @@ public class ContactModalTest extends BaseTest {
         logger.info("Clicking Contact link to open modal");
         $(By.linkText("Contact")).click();
 
-        // Wait a bit for the modal to appear
-        try {
-            Thread.sleep(TestData.Timeouts.ALERT_WAIT_MS);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-
+        // verifyContactModalVisible() waits for the modal to appear
         contactModal.verifyContactModalVisible()
                 .fillContactEmail(TestData.ContactFormData.VALID_EMAIL)
                 .fillContactName(TestData.ContactFormData.VALID_NAME)
@@ -109,16 +103,7 @@ public class ContactModalTest extends BaseTest {
 
     private void handleAlert() {
         logger.debug("Handling JavaScript alert");
-        try {
-            Thread.sleep(TestData.Timeouts.ALERT_WAIT_MS);
-            if (getWebDriver().switchTo().alert() != null) {
-                String alertText = getWebDriver().switchTo().alert().getText();
-                logger.info("Alert message: {}", alertText);
-                getWebDriver().switchTo().alert().accept();
-                logger.debug("Alert accepted successfully");
-            }
-        } catch (Exception e) {
-            logger.debug("No alert present or error handling alert: {}", e.getMessage());
-        }
+        String alertText = Alerts.accept().text();
+        logger.debug("Alert accepted successfully: {}", alertText);
     }
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package utils;
+
+import com.codeborne.selenide.logevents.LogEvent;
+import com.codeborne.selenide.logevents.LogEventListener;
+import metrics.LatencyHistogram;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SelenideLogger listener that times every Selenide action by page-object method, action and locator
+ * Durations go into shared {@link LatencyHistogram}s; a JSON and a Prometheus text summary are written
+ * to target/metrics when the JVM exits
+ *
+ * Registered next to AllureSelenide in BaseTest and Hooks:
+ * SelenideLogger.addListener(ActionTimingListener.NAME, new ActionTimingListener());
+ */
+public class ActionTimingListener implements LogEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActionTimingListener.class);
+
+    public static final String NAME = "ActionTiming";
+
+    private static final Path OUTPUT_DIRECTORY = Paths.get("target", "metrics");
+    private static final String METRIC = "selenide_action_duration_milliseconds";
+    private static final List<String> CALLER_PACKAGES = List.of("pages.", "support.", "stepDefinitions.", "tests.");
+
+    private static final Map<ActionKey, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private static final AtomicBoolean exportRegistered = new AtomicBoolean();
+
+    private static final StackWalker stackWalker = StackWalker.getInstance();
+
+    record ActionKey(String method, String action, String locator) {
+    }
+
+    public ActionTimingListener() {
+        if (exportRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ActionTimingListener::export, "action-timing-export"));
+        }
+    }
+
+    @Override
+    public void beforeEvent(LogEvent event) {
+        // Selenide measures the duration itself; nothing to do before the action
+    }
+
+    @Override
+    public void afterEvent(LogEvent event) {
+        ActionKey key = new ActionKey(callerMethod(), action(event.getSubject()), String.valueOf(event.getElement()));
+        histograms.computeIfAbsent(key, k -> new LatencyHistogram()).record(event.getDuration());
+    }
+
+    /**
+     * Writes the current summaries; also called automatically at JVM shutdown.
+     */
+    public static void export() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<ActionKey, LatencyHistogram>> entries = new ArrayList<>(histograms.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<ActionKey, LatencyHistogram> e) -> e.getValue().sum()).reversed());
+        try {
+            Files.createDirectories(OUTPUT_DIRECTORY);
+            Files.writeString(OUTPUT_DIRECTORY.resolve("action-latency.json"), toJson(entries));
+            Files.writeString(OUTPUT_DIRECTORY.resolve("action-latency.prom"), toPrometheus(entries));
+            logger.info("Action latency summary for {} actions written to {}", entries.size(), OUTPUT_DIRECTORY);
+        } catch (IOException e) {
+            logger.warn("Could not write action latency summary: {}", e.getMessage());
+        }
+    }
+
+    private static String toJson(List<Map.Entry<ActionKey, LatencyHistogram>> entries) {
+        List<Map<String, Object>> actions = new ArrayList<>();
+        for (Map.Entry<ActionKey, LatencyHistogram> entry : entries) {
+            Map<String, Object> action = new LinkedHashMap<>();
+            action.put("method", entry.getKey().method());
+            action.put("action", entry.getKey().action());
+            action.put("locator", entry.getKey().locator());
+            action.put("totalMs", entry.getValue().sum());
+            action.putAll(entry.getValue().summary());
+            actions.add(action);
+        }
+        return new Json().toJson(Map.of("unit", "ms", "actions", actions));
+    }
+
+    private static String toPrometheus(List<Map.Entry<ActionKey, LatencyHistogram>> entries) {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP ").append(METRIC).append(" Duration of Selenide actions by page-object method\n");
+        out.append("# TYPE ").append(METRIC).append(" summary\n");
+        for (Map.Entry<ActionKey, LatencyHistogram> entry : entries) {
+            String labels = labels(entry.getKey());
+            LatencyHistogram histogram = entry.getValue();
+            for (double quantile : new double[] {0.5, 0.9, 0.99}) {
+                out.append(METRIC).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                    .append(histogram.percentile(quantile * 100)).append('\n');
+            }
+            out.append(METRIC).append("_sum{").append(labels).append("} ").append(histogram.sum()).append('\n');
+            out.append(METRIC).append("_count{").append(labels).append("} ").append(histogram.count()).append('\n');
+        }
+        out.append("# HELP ").append(METRIC).append("_max Slowest observed Selenide action\n");
+        out.append("# TYPE ").append(METRIC).append("_max gauge\n");
+        for (Map.Entry<ActionKey, LatencyHistogram> entry : entries) {
+            out.append(METRIC).append("_max{").append(labels(entry.getKey())).append("} ")
+                .append(entry.getValue().max()).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String labels(ActionKey key) {
+        return "method=\"" + escape(key.method()) + "\",action=\"" + escape(key.action())
+            + "\",locator=\"" + escape(key.locator()) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    // "should have(text 'Cart')" -> "should have"; "https://host/prod.html?idp_=1" -> "https://host/prod.html"
+    static String action(String subject) {
+        if (subject == null) {
+            return "-";
+        }
+        String action = subject;
+        int bracket = action.indexOf('(');
+        if (bracket > 0) {
+            action = action.substring(0, bracket);
+        }
+        int query = action.indexOf('?');
+        if (query > 0) {
+            action = action.substring(0, query);
+        }
+        return action.trim();
+    }
+
+    // First page object (or helper, step or test) on the stack, e.g. "HomePage.clickCartLink"
+    private static String callerMethod() {
+        Optional<String> caller = stackWalker.walk(frames -> frames
+            .filter(frame -> CALLER_PACKAGES.stream().anyMatch(frame.getClassName()::startsWith))
+            .findFirst()
+            .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName()));
+        return caller.orElse("-");
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,252 @@
+package utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compact storage for failure artifacts in allure-results
+ * Screenshots are downscaled and stored as JPEG, page sources are gzip-compressed, and both are streamed
+ * straight into their file by a background writer. Identical content (by SHA-256 of the raw capture) is stored once.
+ * Each capture reserves its raw size against the disk budget before a reference is handed out; once the budget is
+ * used up, further failures are reported without artifacts, so no report ever links to a deleted file.
+ *
+ * Configuration (system properties):
+ * -Dartifacts.screenshot.format=jpeg|png   (default jpeg)
+ * -Dartifacts.screenshot.maxWidth=960      screenshots wider than this are scaled down
+ * -Dartifacts.screenshot.quality=0.7       JPEG quality, 0.0-1.0
+ * -Dartifacts.budgetMb=100                 disk budget for this run's artifacts
+ */
+public final class ArtifactStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArtifactStore.class);
+
+    private static final Path RESULTS_DIRECTORY =
+        Paths.get(System.getProperty("allure.results.directory", "allure-results"));
+    private static final boolean JPEG =
+        !"png".equalsIgnoreCase(System.getProperty("artifacts.screenshot.format", "jpeg"));
+    private static final int MAX_WIDTH = Integer.getInteger("artifacts.screenshot.maxWidth", 960);
+    private static final float QUALITY = Float.parseFloat(System.getProperty("artifacts.screenshot.quality", "0.7"));
+    private static final long BUDGET_BYTES = Long.getLong("artifacts.budgetMb", 100) * 1024 * 1024;
+
+    private static final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "failure-artifact-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private static final Set<String> stored = ConcurrentHashMap.newKeySet();
+    // Raw size of queued captures, corrected to the written size once each file is on disk
+    private static final AtomicLong reservedBytes = new AtomicLong();
+    private static final AtomicBoolean budgetReported = new AtomicBoolean();
+
+    static {
+        Runtime.getRuntime().addShutdownHook(new Thread(ArtifactStore::flush, "failure-artifact-flush"));
+    }
+
+    private ArtifactStore() {
+    }
+
+    /**
+     * Attachment file name (relative to allure-results) and its MIME type.
+     */
+    public record StoredArtifact(String source, String type) {
+
+        /**
+         * Absolute file URI of the stored file, for reports outside allure-results.
+         */
+        public URI uri() {
+            return RESULTS_DIRECTORY.resolve(source).toAbsolutePath().toUri();
+        }
+    }
+
+    /**
+     * Queues a PNG screenshot for encoding and writing; returns the attachment reference immediately,
+     * or empty when the disk budget is used up.
+     */
+    public static Optional<StoredArtifact> storeScreenshot(byte[] png) {
+        StoredArtifact artifact = new StoredArtifact(sha256(png) + "-attachment." + screenshotExtension(), screenshotType());
+        return store(artifact, png.length, out -> encodeScreenshot(png, out));
+    }
+
+    /**
+     * Queues a page source for gzip compression and writing; returns the attachment reference immediately,
+     * or empty when the disk budget is used up.
+     */
+    public static Optional<StoredArtifact> storePageSource(String html) {
+        byte[] raw = html.getBytes(StandardCharsets.UTF_8);
+        StoredArtifact artifact = new StoredArtifact(sha256(raw) + "-attachment.html.gz", "application/gzip");
+        return store(artifact, raw.length, out -> gzip(raw, out));
+    }
+
+    public static String screenshotType() {
+        return JPEG ? "image/jpeg" : "image/png";
+    }
+
+    public static String screenshotExtension() {
+        return JPEG ? "jpg" : "png";
+    }
+
+    /**
+     * Waits for queued writes; runs automatically at JVM shutdown.
+     */
+    public static void flush() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                logger.warn("Failure artifacts still being written after 30 s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private interface Encoder {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    // Encoded files are smaller than the raw capture, so reserving the raw size keeps the run within budget
+    private static Optional<StoredArtifact> store(StoredArtifact artifact, long rawBytes, Encoder encoder) {
+        if (stored.contains(artifact.source())) {
+            logger.debug("Reusing identical artifact {}", artifact.source());
+            return Optional.of(artifact);
+        }
+        if (reservedBytes.addAndGet(rawBytes) > BUDGET_BYTES) {
+            reservedBytes.addAndGet(-rawBytes);
+            if (budgetReported.compareAndSet(false, true)) {
+                logger.warn("Artifact budget of {} MB used up; later failures are reported without artifacts",
+                    BUDGET_BYTES / (1024 * 1024));
+            }
+            return Optional.empty();
+        }
+        if (!stored.add(artifact.source())) {
+            reservedBytes.addAndGet(-rawBytes);
+            return Optional.of(artifact);
+        }
+        writer.execute(() -> {
+            Path file = RESULTS_DIRECTORY.resolve(artifact.source());
+            try {
+                Files.createDirectories(RESULTS_DIRECTORY);
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    encoder.writeTo(out);
+                }
+                reservedBytes.addAndGet(Files.size(file) - rawBytes);
+            } catch (IOException | UncheckedIOException e) {
+                reservedBytes.addAndGet(-rawBytes);
+                logger.warn("Could not write artifact {}: {}", file, e.getMessage());
+            }
+        });
+        return Optional.of(artifact);
+    }
+
+    private static void encodeScreenshot(byte[] png, OutputStream out) {
+        try {
+            if (!JPEG && MAX_WIDTH <= 0) {
+                out.write(png);
+                return;
+            }
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+            if (source == null) {
+                out.write(png);
+                return;
+            }
+            double scale = MAX_WIDTH > 0 && source.getWidth() > MAX_WIDTH ? (double) MAX_WIDTH / source.getWidth() : 1.0;
+            int width = Math.max(1, (int) Math.round(source.getWidth() * scale));
+            int height = Math.max(1, (int) Math.round(source.getHeight() * scale));
+            // JPEG has no alpha channel, so always draw onto an opaque RGB canvas
+            BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = target.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(source, 0, 0, width, height, Color.WHITE, null);
+            } finally {
+                graphics.dispose();
+            }
+            if (JPEG) {
+                writeJpeg(target, out);
+            } else {
+                ImageIO.write(target, "png", out);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeJpeg(BufferedImage image, OutputStream out) throws IOException {
+        ImageWriter jpegWriter = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream imageOut = ImageIO.createImageOutputStream(out)) {
+            ImageWriteParam parameters = jpegWriter.getDefaultWriteParam();
+            parameters.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parameters.setCompressionQuality(QUALITY);
+            jpegWriter.setOutput(imageOut);
+            jpegWriter.write(null, new IIOImage(image, null, null), parameters);
+        } finally {
+            jpegWriter.dispose();
+        }
+    }
+
+    private static void gzip(byte[] raw, OutputStream out) {
+        try (GZIPOutputStream gzip = new GZIPOutputStream(new NonClosingOutputStream(out), 8192)) {
+            gzip.write(raw);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    // Lets GZIPOutputStream finish its trailer without closing the caller's stream
+    private static final class NonClosingOutputStream extends FilterOutputStream {
+
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package utils;
+
+import com.codeborne.selenide.Selenide;
+import com.codeborne.selenide.WebDriverRunner;
+import org.openqa.selenium.NoAlertPresentException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static com.codeborne.selenide.Selenide.closeWebDriver;
+
+/**
+ * Keeps the per-thread Selenide browser warm between tests instead of closing it after each one
+ * Resets alerts, cookies, storage and navigation between tests; recycles the browser after N uses or on failure
+ *
+ * Configuration (system properties):
+ * -Dbrowser.pool.enabled=false   close the browser after every test (previous behaviour)
+ * -Dbrowser.pool.maxUses=25      number of tests a browser serves before it is recycled
+ */
+public final class BrowserPool {
+
+    private static final Logger logger = LoggerFactory.getLogger(BrowserPool.class);
+
+    public static final String ENABLED_PROPERTY = "browser.pool.enabled";
+    public static final String MAX_USES_PROPERTY = "browser.pool.maxUses";
+
+    private static final ThreadLocal<Integer> uses = ThreadLocal.withInitial(() -> 0);
+    private static final ThreadLocal<Boolean> failed = ThreadLocal.withInitial(() -> false);
+
+    private BrowserPool() {
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.parseBoolean(System.getProperty(ENABLED_PROPERTY, "true"));
+    }
+
+    public static int maxUses() {
+        return Integer.parseInt(System.getProperty(MAX_USES_PROPERTY, "25"));
+    }
+
+    /**
+     * Flags the current thread's browser as unhealthy so the next {@link #release()} recycles it.
+     */
+    public static void markFailed() {
+        failed.set(true);
+    }
+
+    /**
+     * Returns the current thread's browser to the pool after a test or scenario.
+     */
+    public static void release() {
+        boolean testFailed = failed.get();
+        failed.remove();
+
+        if (!WebDriverRunner.hasWebDriverStarted()) {
+            uses.remove();
+            return;
+        }
+
+        int used = uses.get() + 1;
+        if (!isEnabled() || testFailed || used >= maxUses()) {
+            logger.info("Recycling browser after {} use(s){}", used, testFailed ? " (test failed)" : "");
+            recycle();
+            return;
+        }
+
+        if (reset()) {
+            uses.set(used);
+            logger.debug("Browser returned to pool after {} use(s)", used);
+        } else {
+            recycle();
+        }
+    }
+
+    private static void recycle() {
+        uses.remove();
+        closeWebDriver();
+    }
+
+    private static boolean reset() {
+        try {
+            WebDriver driver = WebDriverRunner.getWebDriver();
+            dismissAlerts(driver);
+            String url = driver.getCurrentUrl();
+            if (url != null && url.startsWith("http")) {
+                driver.manage().deleteAllCookies();
+                Selenide.localStorage().clear();
+                Selenide.sessionStorage().clear();
+            }
+            driver.navigate().to("about:blank");
+            return true;
+        } catch (WebDriverException e) {
+            logger.warn("Could not reset pooled browser, recycling it: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void dismissAlerts(WebDriver driver) {
+        // Chained alerts (e.g. alert raised from an alert handler) are dismissed one by one
+        for (int i = 0; i < 3; i++) {
+            try {
+                driver.switchTo().alert().dismiss();
+            } catch (NoAlertPresentException e) {
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package utils;
+
+import com.codeborne.selenide.WebDriverRunner;
+import io.cucumber.java.Scenario;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Attachment;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Captures a screenshot and the page source when a test or scenario fails, and only then
+ * The browser is read on the test thread; encoding, compression and writing are left to {@link ArtifactStore},
+ * which stores identical content once and keeps the run within its disk budget
+ *
+ * JUnit tests attach to the Allure test case. Cucumber scenarios attach to the Allure teardown fixture of the
+ * {@code @After} hook and attach a link ({@code text/uri-list}) to the same stored file to the Cucumber scenario,
+ * so each capture is written once and reachable from both reports.
+ */
+public final class FailureArtifacts {
+
+    private static final Logger logger = LoggerFactory.getLogger(FailureArtifacts.class);
+
+    private FailureArtifacts() {
+    }
+
+    record Capture(byte[] screenshot, String pageSource) {
+    }
+
+    /**
+     * Attaches the failure screenshot and page source to the current Allure test case.
+     */
+    public static void attachToAllure(String testName) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Map<String, ArtifactStore.StoredArtifact> artifacts = store(testName);
+        artifacts.forEach((name, artifact) -> lifecycle.updateTestCase(result -> result.getAttachments()
+            .add(attachment(name, artifact))));
+        if (!artifacts.isEmpty()) {
+            logger.info("Failure artifacts attached for test: {}", testName);
+        }
+    }
+
+    /**
+     * Attaches the failure screenshot and page source to the running {@code @After} hook in Allure and links the
+     * stored files from the Cucumber scenario.
+     */
+    public static void attachTo(Scenario scenario) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        Map<String, ArtifactStore.StoredArtifact> artifacts = store(scenario.getName());
+        artifacts.forEach((name, artifact) -> {
+            lifecycle.updateFixture(fixture -> fixture.getAttachments().add(attachment(name, artifact)));
+            scenario.attach(artifact.uri().toString(), "text/uri-list", name);
+        });
+        if (!artifacts.isEmpty()) {
+            logger.info("Failure artifacts attached for scenario: {}", scenario.getName());
+        }
+    }
+
+    // Attachment name -> stored artifact; artifacts over the disk budget are left out
+    private static Map<String, ArtifactStore.StoredArtifact> store(String name) {
+        Map<String, ArtifactStore.StoredArtifact> artifacts = new LinkedHashMap<>();
+        capture(name).ifPresent(capture -> {
+            if (capture.screenshot() != null) {
+                ArtifactStore.storeScreenshot(capture.screenshot())
+                    .ifPresent(artifact -> artifacts.put("Screenshot on failure", artifact));
+            }
+            if (capture.pageSource() != null) {
+                ArtifactStore.storePageSource(capture.pageSource())
+                    .ifPresent(artifact -> artifacts.put("Page source on failure", artifact));
+            }
+        });
+        return artifacts;
+    }
+
+    private static Optional<Capture> capture(String name) {
+        if (!WebDriverRunner.hasWebDriverStarted()) {
+            return Optional.empty();
+        }
+        WebDriver driver = WebDriverRunner.getWebDriver();
+        byte[] screenshot = null;
+        String pageSource = null;
+        try {
+            screenshot = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (WebDriverException | ClassCastException e) {
+            logger.warn("Could not take failure screenshot for {}: {}", name, e.getMessage());
+        }
+        try {
+            pageSource = driver.getPageSource();
+        } catch (WebDriverException e) {
+            logger.warn("Could not read page source for {}: {}", name, e.getMessage());
+        }
+        return Optional.of(new Capture(screenshot, pageSource));
+    }
+
+    // References are registered on the test thread so they land in the right test; the store writes the file
+    private static Attachment attachment(String name, ArtifactStore.StoredArtifact artifact) {
+        return new Attachment().setName(name).setType(artifact.type()).setSource(artifact.source());
+    }
+}
@@ -0,0 +1,126 @@
+package utils;
+
+import io.qameta.allure.Allure;
+import metrics.LatencyHistogram;
+import org.openqa.selenium.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import support.PageTimings;
+import support.PageTimings.PageTiming;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * PageTimings listener that attaches every capture to the running Allure step and aggregates them per page
+ * Each page/metric pair has a shared {@link LatencyHistogram}; a JSON and a Prometheus text summary are written
+ * to target/metrics when the JVM exits
+ *
+ * Registered next to ActionTimingListener in BaseTest and Hooks:
+ * PageTimings.addListener(PageTimingReporter.NAME, new PageTimingReporter());
+ */
+public class PageTimingReporter implements Consumer<PageTiming> {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageTimingReporter.class);
+
+    public static final String NAME = "PageTimingReporter";
+
+    private static final Path OUTPUT_DIRECTORY = Paths.get("target", "metrics");
+    private static final String METRIC = "page_timing";
+
+    // Histograms hold whole numbers; CLS is recorded in thousandths and scaled back on export
+    private static final Map<String, Integer> SCALE = Map.of("cls", 1000);
+
+    private static final Map<String, Map<String, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private static final AtomicBoolean exportRegistered = new AtomicBoolean();
+
+    public PageTimingReporter() {
+        if (exportRegistered.compareAndSet(false, true)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(PageTimingReporter::export, "page-timing-export"));
+        }
+    }
+
+    @Override
+    public void accept(PageTiming timing) {
+        Map<String, LatencyHistogram> page = histograms.computeIfAbsent(timing.page(), p -> new ConcurrentHashMap<>());
+        timing.metrics().forEach((name, value) -> page.computeIfAbsent(name, n -> new LatencyHistogram())
+            .record(Math.round(value * SCALE.getOrDefault(name, 1))));
+
+        Map<String, Object> attachment = new LinkedHashMap<>();
+        attachment.put("page", timing.page());
+        attachment.put("url", timing.url());
+        attachment.put("metrics", timing.metrics());
+        if (timing.slowestResourceUrl() != null) {
+            attachment.put("slowestResourceUrl", timing.slowestResourceUrl());
+        }
+        Allure.addAttachment("Page timings: " + timing.page(), "application/json", new Json().toJson(attachment), ".json");
+    }
+
+    /**
+     * Writes the current per-page summaries; also called automatically at JVM shutdown.
+     */
+    public static void export() {
+        if (histograms.isEmpty()) {
+            return;
+        }
+        try {
+            Files.createDirectories(OUTPUT_DIRECTORY);
+            Files.writeString(OUTPUT_DIRECTORY.resolve("page-timings.json"), toJson());
+            Files.writeString(OUTPUT_DIRECTORY.resolve("page-timings.prom"), toPrometheus());
+            logger.info("Page timing summary for {} pages written to {}", histograms.size(), OUTPUT_DIRECTORY);
+        } catch (IOException e) {
+            logger.warn("Could not write page timing summary: {}", e.getMessage());
+        }
+    }
+
+    private static String toJson() {
+        Map<String, Object> pages = new TreeMap<>();
+        histograms.forEach((page, metrics) -> {
+            Map<String, Object> summaries = new TreeMap<>();
+            metrics.forEach((name, histogram) -> summaries.put(name, scaled(name, histogram.summary())));
+            pages.put(page, summaries);
+        });
+        return new Json().toJson(Map.of("unit", "ms (bytes for *Bytes, count for resources, score for cls)",
+            "pages", pages));
+    }
+
+    private static String toPrometheus() {
+        StringBuilder out = new StringBuilder();
+        out.append("# HELP ").append(METRIC).append(" Browser-reported page timings by journey page and metric\n");
+        out.append("# TYPE ").append(METRIC).append(" summary\n");
+        new TreeMap<>(histograms).forEach((page, metrics) -> new TreeMap<>(metrics).forEach((name, histogram) -> {
+            String labels = "page=\"" + escape(page) + "\",metric=\"" + escape(name) + "\"";
+            double scale = SCALE.getOrDefault(name, 1);
+            for (double quantile : new double[] {0.5, 0.9, 0.99}) {
+                out.append(METRIC).append('{').append(labels).append(",quantile=\"").append(quantile).append("\"} ")
+                    .append(histogram.percentile(quantile * 100) / scale).append('\n');
+            }
+            out.append(METRIC).append("_sum{").append(labels).append("} ").append(histogram.sum() / scale).append('\n');
+            out.append(METRIC).append("_count{").append(labels).append("} ").append(histogram.count()).append('\n');
+        }));
+        return out.toString();
+    }
+
+    private static Map<String, Object> scaled(String name, Map<String, Object> summary) {
+        Integer scale = SCALE.get(name);
+        if (scale == null) {
+            return summary;
+        }
+        Map<String, Object> scaled = new LinkedHashMap<>();
+        summary.forEach((key, value) -> scaled.put(key, "count".equals(key) || !(value instanceof Number number)
+            ? value : number.doubleValue() / scale));
+        return scaled;
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
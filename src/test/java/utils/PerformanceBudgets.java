@@ -0,0 +1,68 @@
+package utils;
+
+import data.Environment;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Performance budgets per environment, read from performance-budgets.properties on the test classpath
+ * A budget is looked up as -Dperf.budget.&lt;name&gt;, then &lt;environment&gt;.&lt;name&gt;, then default.&lt;name&gt;
+ *
+ * Configuration (system properties):
+ * -Dperf.budgets.env=live          environment whose budgets apply (default: -Ddemoblaze.target)
+ * -Dperf.budget.response=1000      overrides one budget for every environment
+ */
+public final class PerformanceBudgets {
+
+    private static final String RESOURCE = "performance-budgets.properties";
+
+    private static final Properties budgets = load();
+
+    private PerformanceBudgets() {
+    }
+
+    public static String environment() {
+        return System.getProperty("perf.budgets.env", Environment.target());
+    }
+
+    /**
+     * Budget in milliseconds.
+     *
+     * @throws IllegalStateException if no budget with that name is configured
+     */
+    public static long budget(String name) {
+        return find(name).orElseThrow(() -> new IllegalStateException(
+            "No performance budget '" + name + "' for environment '" + environment() + "' in " + RESOURCE));
+    }
+
+    /**
+     * Budget for a request whose URL contains {@code path}: response.&lt;path&gt; if configured, else response.
+     */
+    public static long responseBudget(String path) {
+        return find("response." + path).orElseGet(() -> budget("response"));
+    }
+
+    private static Optional<Long> find(String name) {
+        String value = System.getProperty("perf.budget." + name);
+        if (value == null) {
+            value = budgets.getProperty(environment() + "." + name, budgets.getProperty("default." + name));
+        }
+        return value == null ? Optional.empty() : Optional.of(Long.parseLong(value.trim()));
+    }
+
+    private static Properties load() {
+        Properties properties = new Properties();
+        try (InputStream in = PerformanceBudgets.class.getClassLoader().getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + RESOURCE, e);
+        }
+        return properties;
+    }
+}
@@ -1,26 +1,32 @@
 package utils;
 
-import io.qameta.allure.Allure;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.TestWatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import com.codeborne.selenide.Selenide;
-import com.codeborne.selenide.WebDriverRunner;
 
 
 /**
  * JUnit 5 test listener for automatic screenshot capture on test failures
- * Integrates with Allure reporting to attach screenshots when tests fail or are aborted
+ * Attaches a screenshot and the page source to Allure through {@link FailureArtifacts} when a test fails
+ * Artifacts are captured right after the test body, before @AfterEach returns the browser to the pool
  */
-public class TestListener implements TestWatcher {
+public class TestListener implements TestWatcher, AfterTestExecutionCallback {
 
     private static final Logger logger = LoggerFactory.getLogger(TestListener.class);
 
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        if (context.getExecutionException().isPresent()) {
+            FailureArtifacts.attachToAllure(context.getDisplayName());
+            BrowserPool.markFailed();
+        }
+    }
+
     @Override
     public void testFailed(ExtensionContext context, Throwable cause) {
         logger.error("Test failed: {}", context.getDisplayName(), cause);
-        attachScreenshot(context.getDisplayName());
     }
 
     @Override
@@ -31,21 +37,5 @@ public class TestListener implements TestWatcher {
     @Override
     public void testAborted(ExtensionContext context, Throwable cause) {
         logger.warn("Test aborted: {}", context.getDisplayName(), cause);
-        attachScreenshot(context.getDisplayName());
-    }
-
-    private void attachScreenshot(String testName) {
-        try {
-            if (WebDriverRunner.hasWebDriverStarted()) {
-                String screenshotPath = Selenide.screenshot(testName);
-                if (screenshotPath != null) {
-                    Allure.addAttachment("Screenshot on failure", "image/png",
-                        new java.io.FileInputStream(screenshotPath), "png");
-                    logger.info("Screenshot attached for test: {}", testName);
-                }
-            }
-        } catch (Exception e) {
-            logger.error("Failed to take screenshot for test: {}", testName, e);
-        }
     }
 }
\ No newline at end of file
@@ -1,4 +1,4 @@
-@Cart @UI @regression
+@Cart @UI @regression @block-heavy
 Feature: DemoBlaze Shopping Cart
   As a customer on DemoBlaze e-commerce website
   I want to manage items in my shopping cart
@@ -39,7 +39,7 @@ Feature: DemoBlaze Shopping Cart
     Then I should see an empty cart
     And the total should show appropriate message or zero
 
-  @CartPersistence @Functional @regression
+  @CartPersistence @Functional @regression @serial
   Scenario: Verify cart maintains items across navigation
     Given I add "Nokia lumia 1520" to cart
     When I navigate to different pages
@@ -0,0 +1,31 @@
+@Performance @UI
+Feature: DemoBlaze Front-end Performance Budgets
+  As a product owner of DemoBlaze e-commerce website
+  I want the main customer journey pages to stay within their performance budgets
+  So that slow pages are caught in the same suite as broken ones
+
+  Background:
+    Given I navigate to the DemoBlaze home page
+
+  @HomePerformance @Smoke
+  Scenario: Home page and product catalogue load within budget
+    Then the page should be interactive within budget
+    And "/entries" should respond within budget
+
+  @ProductPerformance @regression
+  Scenario: Product details load within budget
+    When I click on "Samsung galaxy s6" product
+    Then the page should be interactive within budget
+    And "/view" should respond within budget
+
+  @CartPerformance @regression
+  Scenario: Cart loads within budget
+    When I navigate to cart page
+    Then the page should be interactive within budget
+    And "/viewcart" should respond within budget
+
+  @OrderFormPerformance @regression
+  Scenario: Order form opens quickly
+    When I navigate to cart page
+    And I click place order button
+    Then the page should be interactive within 2000 ms